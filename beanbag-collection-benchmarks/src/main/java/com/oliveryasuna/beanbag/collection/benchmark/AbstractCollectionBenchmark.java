@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.benchmark;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableCollection;
+import com.oliveryasuna.beanbag.collection.listener.CollectionElementAddedListener;
+import com.oliveryasuna.beanbag.collection.listener.CollectionElementRemovedListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractCollectionBenchmark<C extends Collection<Integer>, O extends AbstractObservableCollection<Integer, C, O>> {
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"16", "1024", "65536"})
+  public int size;
+
+  @Param({"0", "1", "16", "256"})
+  public int listeners;
+
+  protected C backing;
+
+  protected O observable;
+
+  protected List<Integer> snapshot;
+
+  protected Set<Integer> retained;
+
+  protected List<Integer> extra;
+
+  protected Integer absent;
+
+  protected Integer last;
+
+  // Setup methods
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup(final Blackhole blackhole) {
+    snapshot = IntStream.range(0, size).boxed().collect(Collectors.toList());
+    retained = snapshot.stream().filter(element -> (element & 1) == 0).collect(Collectors.toCollection(HashSet::new));
+    extra = IntStream.range(size, size + Math.max(1, size / 4)).boxed().collect(Collectors.toList());
+    absent = size;
+    last = (size - 1);
+
+    backing = createBacking();
+    backing.addAll(snapshot);
+
+    observable = observe(backing);
+
+    for(int i = 0; i < listeners; i++) {
+      registerListeners(observable, blackhole);
+    }
+  }
+
+  protected abstract C createBacking();
+
+  protected abstract O observe(C backing);
+
+  protected void registerListeners(final O observable, final Blackhole blackhole) {
+    final CollectionElementAddedListener<Integer, C, O> addedListener = blackhole::consume;
+    final CollectionElementRemovedListener<Integer, C, O> removedListener = blackhole::consume;
+
+    observable.addElementAddedListener(addedListener);
+    observable.addElementRemovedListener(removedListener);
+  }
+
+  // Restore methods
+  //--------------------------------------------------
+
+  protected void restore() {
+    backing.clear();
+    backing.addAll(snapshot);
+  }
+
+  protected void undoAdd() {
+    if(backing instanceof List) {
+      final List<Integer> list = (List<Integer>)backing;
+
+      list.remove(list.size() - 1);
+    } else {
+      backing.remove(absent);
+    }
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  @Benchmark
+  public void restoreBaseline() {
+    restore();
+  }
+
+  @Benchmark
+  public boolean add() {
+    final boolean modified = observable.add(absent);
+
+    undoAdd();
+
+    return modified;
+  }
+
+  @Benchmark
+  public boolean addAll() {
+    final boolean modified = observable.addAll(extra);
+
+    restore();
+
+    return modified;
+  }
+
+  @Benchmark
+  public boolean remove() {
+    final boolean modified = observable.remove(last);
+
+    backing.add(last);
+
+    return modified;
+  }
+
+  @Benchmark
+  public boolean removeIf() {
+    final boolean modified = observable.removeIf(element -> (element & 1) != 0);
+
+    restore();
+
+    return modified;
+  }
+
+  @Benchmark
+  public boolean retainAll() {
+    final boolean modified = observable.retainAll(retained);
+
+    restore();
+
+    return modified;
+  }
+
+  @Benchmark
+  public void clear() {
+    observable.clear();
+
+    restore();
+  }
+
+  @Benchmark
+  public void iterate(final Blackhole blackhole) {
+    for(final Integer element : observable) {
+      blackhole.consume(element);
+    }
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.benchmark;
+
+import com.oliveryasuna.beanbag.collection.ObservableCollection;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+
+public class ObservableCollectionBenchmark extends AbstractCollectionBenchmark<Collection<Integer>, ObservableCollection<Integer>> {
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"ArrayList", "ArrayDeque", "HashSet"})
+  public String backingType;
+
+  // Setup methods
+  //--------------------------------------------------
+
+  @Override
+  protected Collection<Integer> createBacking() {
+    switch(backingType) {
+      case "ArrayList":
+        return new ArrayList<>();
+      case "ArrayDeque":
+        return new ArrayDeque<>();
+      case "HashSet":
+        return new HashSet<>();
+      default:
+        throw new IllegalArgumentException("Unknown backing type: " + backingType + ".");
+    }
+  }
+
+  @Override
+  protected ObservableCollection<Integer> observe(final Collection<Integer> backing) {
+    return new ObservableCollection<>(backing);
+  }
+
+  // Restore methods
+  //--------------------------------------------------
+
+  @Override
+  protected void undoAdd() {
+    if(backing instanceof ArrayDeque) {
+      ((ArrayDeque<Integer>)backing).removeLast();
+    } else {
+      super.undoAdd();
+    }
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.benchmark;
+
+import com.oliveryasuna.beanbag.collection.ObservableList;
+import com.oliveryasuna.beanbag.collection.listener.ListElementChangedListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+public class ObservableListBenchmark extends AbstractCollectionBenchmark<List<Integer>, ObservableList<Integer>> {
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"ArrayList", "LinkedList"})
+  public String backingType;
+
+  // Setup methods
+  //--------------------------------------------------
+
+  @Override
+  protected List<Integer> createBacking() {
+    switch(backingType) {
+      case "ArrayList":
+        return new ArrayList<>();
+      case "LinkedList":
+        return new LinkedList<>();
+      default:
+        throw new IllegalArgumentException("Unknown backing type: " + backingType + ".");
+    }
+  }
+
+  @Override
+  protected ObservableList<Integer> observe(final List<Integer> backing) {
+    return new ObservableList<>(backing);
+  }
+
+  @Override
+  protected void registerListeners(final ObservableList<Integer> observable, final Blackhole blackhole) {
+    super.registerListeners(observable, blackhole);
+
+    final ListElementChangedListener<Integer, List<Integer>, ObservableList<Integer>> changedListener = blackhole::consume;
+
+    observable.addElementChangedListener(changedListener);
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  @Benchmark
+  public Integer set() {
+    final int index = (size >>> 1);
+
+    observable.set(index, absent);
+
+    return backing.set(index, index);
+  }
+
+  @Benchmark
+  public Integer removeLast() {
+    final Integer element = observable.remove(size - 1);
+
+    backing.add(element);
+
+    return element;
+  }
+
+}
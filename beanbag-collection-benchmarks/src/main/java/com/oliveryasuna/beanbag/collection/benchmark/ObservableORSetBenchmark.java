@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.benchmark;
+
+import com.oliveryasuna.beanbag.collection.crdt.ORSetState;
+import com.oliveryasuna.beanbag.collection.crdt.ObservableORSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Thread)
+public class ObservableORSetBenchmark {
+
+  // Fields
+  //--------------------------------------------------
+
+  @Param({"1000000"})
+  public int size;
+
+  private ORSetState<Integer> addDelta;
+
+  private ORSetState<Integer> removeDelta;
+
+  private ObservableORSet<Integer> target;
+
+  private ObservableORSet<Integer> populated;
+
+  // Setup methods
+  //--------------------------------------------------
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final ObservableORSet<Integer> source = new ObservableORSet<>("source");
+
+    for(int i = 0; i < size; i++) {
+      source.add(i);
+    }
+
+    addDelta = source.takeDelta();
+
+    source.removeIf(element -> (element & 1) == 0);
+
+    removeDelta = source.takeDelta();
+  }
+
+  @Setup(Level.Invocation)
+  public void reset() {
+    target = new ObservableORSet<>("target");
+
+    populated = new ObservableORSet<>("populated");
+    populated.merge(addDelta);
+  }
+
+  // Benchmarks
+  //--------------------------------------------------
+
+  @Benchmark
+  public ObservableORSet<Integer> mergeAddDelta() {
+    target.merge(addDelta);
+
+    return target;
+  }
+
+  @Benchmark
+  public ObservableORSet<Integer> mergeRemoveDelta() {
+    populated.merge(removeDelta);
+
+    return populated;
+  }
+
+}
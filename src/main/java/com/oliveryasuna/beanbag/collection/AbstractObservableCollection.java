@@ -19,19 +19,40 @@
 package com.oliveryasuna.beanbag.collection;
 
 import com.oliveryasuna.beanbag.ObservableBean;
+import com.oliveryasuna.beanbag.collection.changelog.Change;
+import com.oliveryasuna.beanbag.collection.changelog.ChangeLog;
+import com.oliveryasuna.beanbag.collection.changelog.Delta;
+import com.oliveryasuna.beanbag.collection.dispatch.DispatchPolicy;
 import com.oliveryasuna.beanbag.collection.event.CollectionElementAddedEvent;
 import com.oliveryasuna.beanbag.collection.event.CollectionElementRemovedEvent;
+import com.oliveryasuna.beanbag.collection.index.HashIndex;
+import com.oliveryasuna.beanbag.collection.index.UniqueHashIndex;
+import com.oliveryasuna.beanbag.collection.jfr.BulkMutationEvent;
+import com.oliveryasuna.beanbag.collection.jfr.ListenerInvocationEvent;
+import com.oliveryasuna.beanbag.collection.listener.BulkMutationObserver;
 import com.oliveryasuna.beanbag.collection.listener.CollectionElementAddedListener;
 import com.oliveryasuna.beanbag.collection.listener.CollectionElementRemovedListener;
+import com.oliveryasuna.beanbag.collection.listener.ElementObserver;
+import com.oliveryasuna.beanbag.collection.metrics.CollectionInstrumentation;
+import com.oliveryasuna.beanbag.collection.metrics.MutationType;
+import com.oliveryasuna.beanbag.collection.view.SortedObservableList;
 import com.oliveryasuna.beanbag.helper.IteratorDecorator;
 import com.oliveryasuna.commons.language.pattern.registry.Registration;
 import org.apache.commons.lang3.event.EventListenerSupport;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public abstract class AbstractObservableCollection<T, COL extends Collection<T>, SUB extends AbstractObservableCollection<T, COL, SUB>>
     extends ObservableBean<COL, SUB> implements Collection<T> {
@@ -43,6 +64,27 @@ public abstract class AbstractObservableCollection<T, COL extends Collection<T>,
     super(collection);
   }
 
+  // Fields
+  //--------------------------------------------------
+
+  private boolean reuseEvents;
+
+  protected int dispatchDepth;
+
+  private CollectionElementAddedEvent<T, COL, SUB> reusableElementAddedEvent;
+
+  private CollectionElementRemovedEvent<T, COL, SUB> reusableElementRemovedEvent;
+
+  private CollectionInstrumentation instrumentation;
+
+  private DispatchPolicy dispatchPolicy;
+
+  private long version;
+
+  private ChangeLog<T> changeLog;
+
+  private int bulkMutationDepth;
+
   // Listener registries
   //--------------------------------------------------
 
@@ -52,6 +94,14 @@ public abstract class AbstractObservableCollection<T, COL extends Collection<T>,
   protected final EventListenerSupport<CollectionElementRemovedListener> elementRemovedListeners =
       EventListenerSupport.create(CollectionElementRemovedListener.class);
 
+  protected final EventListenerSupport<ElementObserver> elementObservers =
+      EventListenerSupport.create(ElementObserver.class);
+
+  protected final EventListenerSupport<BulkMutationObserver> bulkMutationObservers =
+      EventListenerSupport.create(BulkMutationObserver.class);
+
+  private final ReferenceQueue<Object> weakListenerQueue = new ReferenceQueue<>();
+
   // Listener registration methods
   //--------------------------------------------------
 
@@ -75,15 +125,265 @@ public abstract class AbstractObservableCollection<T, COL extends Collection<T>,
     elementRemovedListeners.removeListener(listener);
   }
 
+  public Registration addElementObserver(final ElementObserver<? super T> observer) {
+    elementObservers.addListener(observer);
+
+    return (() -> removeElementObserver(observer));
+  }
+
+  public void removeElementObserver(final ElementObserver<? super T> observer) {
+    elementObservers.removeListener(observer);
+  }
+
+  public Registration addBulkMutationObserver(final BulkMutationObserver observer) {
+    bulkMutationObservers.addListener(observer);
+
+    return (() -> removeBulkMutationObserver(observer));
+  }
+
+  public void removeBulkMutationObserver(final BulkMutationObserver observer) {
+    bulkMutationObservers.removeListener(observer);
+  }
+
+  public Registration addWeakElementAddedListener(final CollectionElementAddedListener<T, COL, SUB> listener) {
+    return addWeakListener(listener, reference -> (event -> {
+      final CollectionElementAddedListener<T, COL, SUB> delegate = reference.get();
+
+      if(delegate != null) {
+        delegate.elementAdded(event);
+      }
+    }), this::addElementAddedListener, this::removedElementAddedListener);
+  }
+
+  public Registration addWeakElementRemovedListener(final CollectionElementRemovedListener<T, COL, SUB> listener) {
+    return addWeakListener(listener, reference -> (event -> {
+      final CollectionElementRemovedListener<T, COL, SUB> delegate = reference.get();
+
+      if(delegate != null) {
+        delegate.elementRemoved(event);
+      }
+    }), this::addElementRemovedListener, this::removedElementRemovedListener);
+  }
+
+  public Registration addWeakElementObserver(final ElementObserver<? super T> observer) {
+    return this.<ElementObserver<? super T>>addWeakListener(observer, reference -> new ElementObserver<T>() {
+
+      @Override
+      public void elementAdded(final T element) {
+        final ElementObserver<? super T> delegate = reference.get();
+
+        if(delegate != null) {
+          delegate.elementAdded(element);
+        }
+      }
+
+      @Override
+      public void elementRemoved(final T element) {
+        final ElementObserver<? super T> delegate = reference.get();
+
+        if(delegate != null) {
+          delegate.elementRemoved(element);
+        }
+      }
+
+      @Override
+      public void elementChanged(final T newElement, final T oldElement) {
+        final ElementObserver<? super T> delegate = reference.get();
+
+        if(delegate != null) {
+          delegate.elementChanged(newElement, oldElement);
+        }
+      }
+
+      @Override
+      public void elementCountChanged(final T element, final int delta) {
+        final ElementObserver<? super T> delegate = reference.get();
+
+        if(delegate != null) {
+          delegate.elementCountChanged(element, delta);
+        }
+      }
+
+    }, this::addElementObserver, this::removeElementObserver);
+  }
+
+  protected final <L> Registration addWeakListener(final L listener, final Function<WeakReference<L>, ? extends L> proxyFactory,
+      final Consumer<L> adder, final Consumer<L> remover) {
+    final WeakListenerReference<L> reference = new WeakListenerReference<>(listener, weakListenerQueue);
+    final L proxy = proxyFactory.apply(reference);
+
+    reference.remover = (() -> remover.accept(proxy));
+
+    adder.accept(proxy);
+
+    return (() -> remover.accept(proxy));
+  }
+
+  protected final void purgeWeakListeners() {
+    Reference<?> reference;
+
+    while((reference = weakListenerQueue.poll()) != null) {
+      ((WeakListenerReference<?>)reference).remover.run();
+    }
+  }
+
   // Listener dispatch methods
   //--------------------------------------------------
 
   protected void fireElementAddedEvent(final T element) {
-    elementAddedListeners.fire().elementAdded(new CollectionElementAddedEvent<>(element, (SUB)this));
+    if(advanceVersion()) {
+      logChange(Change.added(element, -1));
+    }
+
+    dispatchElementAddedEvent(element);
+  }
+
+  protected final void dispatchElementAddedEvent(final T element) {
+    purgeWeakListeners();
+
+    final CollectionElementAddedEvent<T, COL, SUB> event;
+
+    if(canReuseEvent()) {
+      if(reusableElementAddedEvent == null) {
+        reusableElementAddedEvent = CollectionElementAddedEvent.reusable((SUB)this);
+      }
+
+      event = reusableElementAddedEvent.reset(element);
+    } else {
+      event = new CollectionElementAddedEvent<>(element, (SUB)this);
+    }
+
+    countMutation(MutationType.ADDED, 1);
+
+    dispatchDepth++;
+
+    try {
+      if(!isDispatchInstrumented()) {
+        elementAddedListeners.fire().elementAdded(event);
+      } else {
+        fireInstrumented(CollectionElementAddedListener.class, elementAddedListeners, listener -> listener.elementAdded(event));
+      }
+    } finally {
+      dispatchDepth--;
+    }
+
+    elementObservers.fire().elementAdded(element);
   }
 
   protected void fireElementRemovedEvent(final T element) {
-    elementRemovedListeners.fire().elementRemoved(new CollectionElementRemovedEvent<>(element, (SUB)this));
+    if(advanceVersion()) {
+      logChange(Change.removed(element, -1));
+    }
+
+    dispatchElementRemovedEvent(element);
+  }
+
+  protected final void dispatchElementRemovedEvent(final T element) {
+    purgeWeakListeners();
+
+    final CollectionElementRemovedEvent<T, COL, SUB> event;
+
+    if(canReuseEvent()) {
+      if(reusableElementRemovedEvent == null) {
+        reusableElementRemovedEvent = CollectionElementRemovedEvent.reusable((SUB)this);
+      }
+
+      event = reusableElementRemovedEvent.reset(element);
+    } else {
+      event = new CollectionElementRemovedEvent<>(element, (SUB)this);
+    }
+
+    countMutation(MutationType.REMOVED, 1);
+
+    dispatchDepth++;
+
+    try {
+      if(!isDispatchInstrumented()) {
+        elementRemovedListeners.fire().elementRemoved(event);
+      } else {
+        fireInstrumented(CollectionElementRemovedListener.class, elementRemovedListeners, listener -> listener.elementRemoved(event));
+      }
+    } finally {
+      dispatchDepth--;
+    }
+
+    elementObservers.fire().elementRemoved(element);
+  }
+
+  // Only the outermost bulk operation is reported, so observers see one bracket per public call.
+  protected final void beginBulkMutation() {
+    if(bulkMutationDepth++ == 0) {
+      bulkMutationObservers.fire().bulkMutationStarted();
+    }
+  }
+
+  protected final void endBulkMutation() {
+    if(--bulkMutationDepth == 0) {
+      bulkMutationObservers.fire().bulkMutationCompleted();
+    }
+  }
+
+  protected final boolean isDispatchInstrumented() {
+    return (instrumentation != null || dispatchPolicy != null || ListenerInvocationEvent.isTypeEnabled());
+  }
+
+  protected final boolean canReuseEvent() {
+    return (reuseEvents && dispatchPolicy == null && dispatchDepth == 0);
+  }
+
+  protected final boolean advanceVersion() {
+    version++;
+
+    return (changeLog != null);
+  }
+
+  protected final void logChange(final Change<T> change) {
+    changeLog.append(version, change);
+  }
+
+  protected final void restartChangeLog() {
+    changeLog = new ChangeLog<>(changeLog.getCapacity(), version);
+  }
+
+  protected final void countMutation(final MutationType type, final int count) {
+    if(instrumentation != null) {
+      instrumentation.mutated(type, count);
+    }
+  }
+
+  protected final <L> void fireInstrumented(final Class<L> listenerType, final EventListenerSupport<L> registry, final Consumer<L> invoker) {
+    final CollectionInstrumentation instrumentation = this.instrumentation;
+
+    if(instrumentation != null) {
+      instrumentation.eventFired(listenerType);
+    }
+
+    final Consumer<L> measuredInvoker = (listener -> {
+      final ListenerInvocationEvent invocationEvent = new ListenerInvocationEvent();
+      final long start = System.nanoTime();
+
+      invocationEvent.begin();
+
+      try {
+        invoker.accept(listener);
+      } finally {
+        invocationEvent.complete(this, listenerType, listener);
+
+        if(instrumentation != null) {
+          instrumentation.listenerCompleted(listener, System.nanoTime() - start);
+        }
+      }
+    });
+
+    final L[] listeners = registry.getListeners();
+
+    if(dispatchPolicy == null) {
+      for(final L listener : listeners) {
+        measuredInvoker.accept(listener);
+      }
+    } else {
+      dispatchPolicy.dispatch(listeners, measuredInvoker);
+    }
   }
 
   // Getters/setters
@@ -97,6 +397,75 @@ public abstract class AbstractObservableCollection<T, COL extends Collection<T>,
     setBean(collection);
   }
 
+  public boolean isReuseEvents() {
+    return reuseEvents;
+  }
+
+  // When on, added and removed events are reused across dispatches. An event is then only valid during the listener
+  // callback; a listener that keeps it past the callback must keep event.copy() or event.freeze() instead.
+  public void setReuseEvents(final boolean reuseEvents) {
+    this.reuseEvents = reuseEvents;
+  }
+
+  public CollectionInstrumentation getInstrumentation() {
+    return instrumentation;
+  }
+
+  public void setInstrumentation(final CollectionInstrumentation instrumentation) {
+    this.instrumentation = instrumentation;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public int getChangeLogCapacity() {
+    return (changeLog == null ? 0 : changeLog.getCapacity());
+  }
+
+  public void setChangeLogCapacity(final int capacity) {
+    if(capacity < 0) {
+      throw new IllegalArgumentException("Capacity must not be negative.");
+    }
+
+    this.changeLog = (capacity == 0 ? null : new ChangeLog<>(capacity, version));
+  }
+
+  public Delta<T> changesSince(final long version) {
+    if(version > this.version) {
+      throw new IllegalArgumentException("Version is ahead of the collection.");
+    }
+
+    if(changeLog == null) {
+      return (version == this.version ? Delta.of(version, version, Collections.emptyList()) : Delta.resync(version, this.version));
+    }
+
+    return changeLog.changesSince(version);
+  }
+
+  public DispatchPolicy getDispatchPolicy() {
+    return dispatchPolicy;
+  }
+
+  public void setDispatchPolicy(final DispatchPolicy dispatchPolicy) {
+    this.dispatchPolicy = dispatchPolicy;
+  }
+
+  // View methods
+  //--------------------------------------------------
+
+  public SortedObservableList<T> sorted(final Comparator<? super T> comparator) {
+    return new SortedObservableList<>(this, comparator);
+  }
+
+  public <K> HashIndex<T, K> index(final Function<? super T, ? extends K> keyExtractor) {
+    return new HashIndex<>(this, keyExtractor);
+  }
+
+  public <K> UniqueHashIndex<T, K> uniqueIndex(final Function<? super T, ? extends K> keyExtractor) {
+    return new UniqueHashIndex<>(this, keyExtractor);
+  }
+
   // Collection methods
   //--------------------------------------------------
 
@@ -113,18 +482,29 @@ public abstract class AbstractObservableCollection<T, COL extends Collection<T>,
 
   @Override
   public boolean addAll(final Collection<? extends T> collection) {
-    final Collection<T> beforeAddAll = Collections.unmodifiableCollection(bean);
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
 
-    final boolean modified = getCollection().addAll(collection);
+    bulkEvent.begin();
+    beginBulkMutation();
 
-    if(modified) {
-      final Collection<T> added = new ArrayList<>(bean);
-      added.removeAll(beforeAddAll);
+    try {
+      boolean modified = false;
 
-      added.forEach(this::fireElementAddedEvent);
-    }
+      for(final T element : collection) {
+        if(getCollection().add(element)) {
+          fireElementAddedEvent(element);
 
-    return modified;
+          modified = true;
+        }
+      }
+
+      bulkEvent.complete(this, "addAll", sizeBefore, size());
+
+      return modified;
+    } finally {
+      endBulkMutation();
+    }
   }
 
   @Override
@@ -140,56 +520,104 @@ public abstract class AbstractObservableCollection<T, COL extends Collection<T>,
 
   @Override
   public boolean removeAll(final Collection<?> collection) {
-    final Collection<T> removed = new ArrayList<>(bean);
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
 
-    final boolean modified = getCollection().removeAll(collection);
+    bulkEvent.begin();
+    beginBulkMutation();
 
-    if(modified) {
-      removed.removeAll(bean);
+    try {
+      final Collection<T> removed = new ArrayList<>(bean);
 
-      removed.forEach(this::fireElementRemovedEvent);
-    }
+      final boolean modified = getCollection().removeAll(collection);
 
-    return modified;
+      if(modified) {
+        removed.removeAll(bean);
+
+        removed.forEach(this::fireElementRemovedEvent);
+      }
+
+      bulkEvent.complete(this, "removeAll", sizeBefore, size());
+
+      return modified;
+    } finally {
+      endBulkMutation();
+    }
   }
 
   @Override
   public boolean removeIf(final Predicate<? super T> filter) {
-    final Collection<T> removed = new ArrayList<>(bean);
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
 
-    final boolean modified = getCollection().removeIf(filter);
+    bulkEvent.begin();
+    beginBulkMutation();
 
-    if(modified) {
-      removed.removeAll(bean);
+    try {
+      final Collection<T> removed = new ArrayList<>(bean);
 
-      removed.forEach(this::fireElementRemovedEvent);
-    }
+      final boolean modified = getCollection().removeIf(filter);
 
-    return modified;
+      if(modified) {
+        removed.removeAll(bean);
+
+        removed.forEach(this::fireElementRemovedEvent);
+      }
+
+      bulkEvent.complete(this, "removeIf", sizeBefore, size());
+
+      return modified;
+    } finally {
+      endBulkMutation();
+    }
   }
 
   @Override
   public boolean retainAll(final Collection<?> collection) {
-    final Collection<T> removed = new ArrayList<>(bean);
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
 
-    final boolean modified = getCollection().retainAll(collection);
+    bulkEvent.begin();
+    beginBulkMutation();
 
-    if(modified) {
-      removed.removeAll(bean);
+    try {
+      final Collection<T> removed = new ArrayList<>(bean);
 
-      removed.forEach(this::fireElementRemovedEvent);
-    }
+      final boolean modified = getCollection().retainAll(collection);
 
-    return modified;
+      if(modified) {
+        removed.removeAll(bean);
+
+        removed.forEach(this::fireElementRemovedEvent);
+      }
+
+      bulkEvent.complete(this, "retainAll", sizeBefore, size());
+
+      return modified;
+    } finally {
+      endBulkMutation();
+    }
   }
 
   @Override
   public void clear() {
-    final Collection<T> beforeClear = Collections.unmodifiableCollection(bean);
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
+
+    bulkEvent.begin();
+    beginBulkMutation();
 
-    getCollection().clear();
+    try {
+      final Collection<T> beforeClear = new ArrayList<>(bean);
 
-    beforeClear.forEach(this::fireElementRemovedEvent);
+      getCollection().clear();
+
+      beforeClear.forEach(this::fireElementRemovedEvent);
+
+      bulkEvent.complete(this, "clear", sizeBefore, size());
+    } finally {
+      endBulkMutation();
+    }
   }
 
   @Override
@@ -217,6 +645,26 @@ public abstract class AbstractObservableCollection<T, COL extends Collection<T>,
     return new ObservableIterator();
   }
 
+  @Override
+  public Spliterator<T> spliterator() {
+    return getCollection().spliterator();
+  }
+
+  @Override
+  public Stream<T> stream() {
+    return getCollection().stream();
+  }
+
+  @Override
+  public Stream<T> parallelStream() {
+    return getCollection().parallelStream();
+  }
+
+  @Override
+  public void forEach(final Consumer<? super T> action) {
+    getCollection().forEach(action);
+  }
+
   @Override
   public Object[] toArray() {
     return getCollection().toArray();
@@ -260,6 +708,10 @@ public abstract class AbstractObservableCollection<T, COL extends Collection<T>,
     public void remove() {
       super.remove();
 
+      fireRemoved();
+    }
+
+    protected void fireRemoved() {
       AbstractObservableCollection.this.fireElementRemovedEvent(lastElement);
     }
 
@@ -18,18 +18,31 @@
 
 package com.oliveryasuna.beanbag.collection;
 
+import com.oliveryasuna.beanbag.collection.changelog.Change;
 import com.oliveryasuna.beanbag.collection.event.ListElementAddedEvent;
 import com.oliveryasuna.beanbag.collection.event.ListElementChangedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementMovedEvent;
 import com.oliveryasuna.beanbag.collection.event.ListElementRemovedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementsChangedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementsPermutedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementsRemovedEvent;
+import com.oliveryasuna.beanbag.collection.jfr.BulkMutationEvent;
 import com.oliveryasuna.beanbag.collection.listener.ListElementAddedListener;
 import com.oliveryasuna.beanbag.collection.listener.ListElementChangedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementMovedListener;
 import com.oliveryasuna.beanbag.collection.listener.ListElementRemovedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementsChangedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementsPermutedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementsRemovedListener;
+import com.oliveryasuna.beanbag.collection.metrics.MutationType;
 import com.oliveryasuna.beanbag.helper.ListIteratorDecorator;
 import com.oliveryasuna.commons.language.pattern.registry.Registration;
 import org.apache.commons.lang3.event.EventListenerSupport;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 public abstract class AbstractObservableList<T, LST extends List<T>, SUB extends AbstractObservableList<T, LST, SUB>>
     extends AbstractObservableCollection<T, LST, SUB> implements List<T> {
@@ -41,6 +54,13 @@ public abstract class AbstractObservableList<T, LST extends List<T>, SUB extends
     super(list);
   }
 
+  // Fields
+  //--------------------------------------------------
+
+  private ListElementAddedEvent<T, LST, SUB> reusableListElementAddedEvent;
+
+  private ListElementRemovedEvent<T, LST, SUB> reusableListElementRemovedEvent;
+
   // Listener registries
   //--------------------------------------------------
 
@@ -53,6 +73,18 @@ public abstract class AbstractObservableList<T, LST extends List<T>, SUB extends
   protected final EventListenerSupport<ListElementChangedListener> listElementChangedListeners =
       EventListenerSupport.create(ListElementChangedListener.class);
 
+  protected final EventListenerSupport<ListElementMovedListener> listElementMovedListeners =
+      EventListenerSupport.create(ListElementMovedListener.class);
+
+  protected final EventListenerSupport<ListElementsPermutedListener> listElementsPermutedListeners =
+      EventListenerSupport.create(ListElementsPermutedListener.class);
+
+  protected final EventListenerSupport<ListElementsChangedListener> listElementsChangedListeners =
+      EventListenerSupport.create(ListElementsChangedListener.class);
+
+  protected final EventListenerSupport<ListElementsRemovedListener> listElementsRemovedListeners =
+      EventListenerSupport.create(ListElementsRemovedListener.class);
+
   // Listener registration methods
   //--------------------------------------------------
 
@@ -86,23 +118,313 @@ public abstract class AbstractObservableList<T, LST extends List<T>, SUB extends
     listElementChangedListeners.removeListener(listener);
   }
 
+  public Registration addElementMovedListener(final ListElementMovedListener<T, LST, SUB> listener) {
+    listElementMovedListeners.addListener(listener);
+
+    return (() -> removeElementMovedListener(listener));
+  }
+
+  public void removeElementMovedListener(final ListElementMovedListener<T, LST, SUB> listener) {
+    listElementMovedListeners.removeListener(listener);
+  }
+
+  public Registration addElementsPermutedListener(final ListElementsPermutedListener<T, LST, SUB> listener) {
+    listElementsPermutedListeners.addListener(listener);
+
+    return (() -> removeElementsPermutedListener(listener));
+  }
+
+  public void removeElementsPermutedListener(final ListElementsPermutedListener<T, LST, SUB> listener) {
+    listElementsPermutedListeners.removeListener(listener);
+  }
+
+  public Registration addElementsChangedListener(final ListElementsChangedListener<T, LST, SUB> listener) {
+    listElementsChangedListeners.addListener(listener);
+
+    return (() -> removeElementsChangedListener(listener));
+  }
+
+  public void removeElementsChangedListener(final ListElementsChangedListener<T, LST, SUB> listener) {
+    listElementsChangedListeners.removeListener(listener);
+  }
+
+  public Registration addElementsRemovedListener(final ListElementsRemovedListener<T, LST, SUB> listener) {
+    listElementsRemovedListeners.addListener(listener);
+
+    return (() -> removeElementsRemovedListener(listener));
+  }
+
+  public void removeElementsRemovedListener(final ListElementsRemovedListener<T, LST, SUB> listener) {
+    listElementsRemovedListeners.removeListener(listener);
+  }
+
+  public Registration addWeakElementAddedListener(final ListElementAddedListener<T, LST, SUB> listener) {
+    return addWeakListener(listener, reference -> (event -> {
+      final ListElementAddedListener<T, LST, SUB> delegate = reference.get();
+
+      if(delegate != null) {
+        delegate.elementAdded(event);
+      }
+    }), this::addElementAddedListener, this::removedElementAddedListener);
+  }
+
+  public Registration addWeakElementRemovedListener(final ListElementRemovedListener<T, LST, SUB> listener) {
+    return addWeakListener(listener, reference -> (event -> {
+      final ListElementRemovedListener<T, LST, SUB> delegate = reference.get();
+
+      if(delegate != null) {
+        delegate.elementRemoved(event);
+      }
+    }), this::addElementRemovedListener, this::removedElementRemovedListener);
+  }
+
+  public Registration addWeakElementChangedListener(final ListElementChangedListener<T, LST, SUB> listener) {
+    return addWeakListener(listener, reference -> (event -> {
+      final ListElementChangedListener<T, LST, SUB> delegate = reference.get();
+
+      if(delegate != null) {
+        delegate.elementChanged(event);
+      }
+    }), this::addElementChangedListener, this::removeElementChangedListener);
+  }
+
+  public Registration addWeakElementMovedListener(final ListElementMovedListener<T, LST, SUB> listener) {
+    return addWeakListener(listener, reference -> (event -> {
+      final ListElementMovedListener<T, LST, SUB> delegate = reference.get();
+
+      if(delegate != null) {
+        delegate.elementMoved(event);
+      }
+    }), this::addElementMovedListener, this::removeElementMovedListener);
+  }
+
+  public Registration addWeakElementsPermutedListener(final ListElementsPermutedListener<T, LST, SUB> listener) {
+    return addWeakListener(listener, reference -> (event -> {
+      final ListElementsPermutedListener<T, LST, SUB> delegate = reference.get();
+
+      if(delegate != null) {
+        delegate.elementsPermuted(event);
+      }
+    }), this::addElementsPermutedListener, this::removeElementsPermutedListener);
+  }
+
+  public Registration addWeakElementsChangedListener(final ListElementsChangedListener<T, LST, SUB> listener) {
+    return addWeakListener(listener, reference -> (event -> {
+      final ListElementsChangedListener<T, LST, SUB> delegate = reference.get();
+
+      if(delegate != null) {
+        delegate.elementsChanged(event);
+      }
+    }), this::addElementsChangedListener, this::removeElementsChangedListener);
+  }
+
+  public Registration addWeakElementsRemovedListener(final ListElementsRemovedListener<T, LST, SUB> listener) {
+    return addWeakListener(listener, reference -> (event -> {
+      final ListElementsRemovedListener<T, LST, SUB> delegate = reference.get();
+
+      if(delegate != null) {
+        delegate.elementsRemoved(event);
+      }
+    }), this::addElementsRemovedListener, this::removeElementsRemovedListener);
+  }
+
   // Listener dispatch methods
   //--------------------------------------------------
 
   protected void fireElementAddedEvent(final T element, final int index) {
-    fireElementAddedEvent(element);
+    if(advanceVersion()) {
+      logChange(Change.added(element, index));
+    }
+
+    dispatchElementAddedEvent(element);
+
+    final ListElementAddedEvent<T, LST, SUB> event;
+
+    if(canReuseEvent()) {
+      if(reusableListElementAddedEvent == null) {
+        reusableListElementAddedEvent = ListElementAddedEvent.reusable((SUB)this);
+      }
+
+      event = reusableListElementAddedEvent.reset(element, index);
+    } else {
+      event = new ListElementAddedEvent<>(element, index, (SUB)this);
+    }
 
-    listElementAddedListeners.fire().elementAdded(new ListElementAddedEvent<>(element, index, (SUB)this));
+    dispatchDepth++;
+
+    try {
+      if(!isDispatchInstrumented()) {
+        listElementAddedListeners.fire().elementAdded(event);
+      } else {
+        fireInstrumented(ListElementAddedListener.class, listElementAddedListeners, listener -> listener.elementAdded(event));
+      }
+    } finally {
+      dispatchDepth--;
+    }
   }
 
   protected void fireElementRemovedEvent(final T element, final int index) {
-    fireElementRemovedEvent(element);
+    if(advanceVersion()) {
+      logChange(Change.removed(element, index));
+    }
+
+    dispatchElementRemovedEvent(element);
+    dispatchListElementRemovedEvent(element, index);
+  }
+
+  private void dispatchListElementRemovedEvent(final T element, final int index) {
+    final ListElementRemovedEvent<T, LST, SUB> event;
+
+    if(canReuseEvent()) {
+      if(reusableListElementRemovedEvent == null) {
+        reusableListElementRemovedEvent = ListElementRemovedEvent.reusable((SUB)this);
+      }
+
+      event = reusableListElementRemovedEvent.reset(element, index);
+    } else {
+      event = new ListElementRemovedEvent<>(element, index, (SUB)this);
+    }
+
+    dispatchDepth++;
 
-    listElementRemovedListeners.fire().elementRemoved(new ListElementRemovedEvent<>(element, index, (SUB)this));
+    try {
+      if(!isDispatchInstrumented()) {
+        listElementRemovedListeners.fire().elementRemoved(event);
+      } else {
+        fireInstrumented(ListElementRemovedListener.class, listElementRemovedListeners, listener -> listener.elementRemoved(event));
+      }
+    } finally {
+      dispatchDepth--;
+    }
   }
 
   protected void fireElementChangedEvent(final T newElement, final T oldElement, final int index) {
-    listElementChangedListeners.fire().elementChanged(new ListElementChangedEvent<>(newElement, oldElement, index, (SUB)this));
+    if(advanceVersion()) {
+      logChange(Change.changed(newElement, oldElement, index));
+    }
+
+    purgeWeakListeners();
+
+    final ListElementChangedEvent<T, LST, SUB> event = new ListElementChangedEvent<>(newElement, oldElement, index, (SUB)this);
+
+    countMutation(MutationType.CHANGED, 1);
+
+    if(!isDispatchInstrumented()) {
+      listElementChangedListeners.fire().elementChanged(event);
+    } else {
+      fireInstrumented(ListElementChangedListener.class, listElementChangedListeners, listener -> listener.elementChanged(event));
+    }
+
+    elementObservers.fire().elementChanged(newElement, oldElement);
+  }
+
+  protected void fireElementMovedEvent(final T element, final int fromIndex, final int toIndex) {
+    if(advanceVersion()) {
+      logChange(Change.moved(element, fromIndex, toIndex));
+    }
+
+    purgeWeakListeners();
+
+    final ListElementMovedEvent<T, LST, SUB> event = new ListElementMovedEvent<>(element, fromIndex, toIndex, (SUB)this);
+
+    countMutation(MutationType.MOVED, 1);
+
+    if(!isDispatchInstrumented()) {
+      listElementMovedListeners.fire().elementMoved(event);
+    } else {
+      fireInstrumented(ListElementMovedListener.class, listElementMovedListeners, listener -> listener.elementMoved(event));
+    }
+  }
+
+  protected void fireElementsPermutedEvent(final int[] permutation) {
+    if(advanceVersion()) {
+      logChange(Change.permuted(permutation));
+    }
+
+    purgeWeakListeners();
+
+    final ListElementsPermutedEvent<T, LST, SUB> event = new ListElementsPermutedEvent<>(permutation, (SUB)this);
+
+    countMutation(MutationType.PERMUTED, 1);
+
+    if(!isDispatchInstrumented()) {
+      listElementsPermutedListeners.fire().elementsPermuted(event);
+    } else {
+      fireInstrumented(ListElementsPermutedListener.class, listElementsPermutedListeners, listener -> listener.elementsPermuted(event));
+    }
+  }
+
+  protected void fireElementsChangedEvent(final int fromIndex, final List<T> newElements, final List<T> oldElements) {
+    for(int i = 0; i < newElements.size(); i++) {
+      if(newElements.get(i) != oldElements.get(i) && advanceVersion()) {
+        logChange(Change.changed(newElements.get(i), oldElements.get(i), fromIndex + i));
+      }
+    }
+
+    purgeWeakListeners();
+
+    final ListElementsChangedEvent<T, LST, SUB> event = new ListElementsChangedEvent<>(fromIndex, newElements, oldElements, (SUB)this);
+    if(!isDispatchInstrumented()) {
+      listElementsChangedListeners.fire().elementsChanged(event);
+    } else {
+      fireInstrumented(ListElementsChangedListener.class, listElementsChangedListeners, listener -> listener.elementsChanged(event));
+    }
+
+    int changed = 0;
+
+    for(int i = 0; i < newElements.size(); i++) {
+      final T newElement = newElements.get(i);
+      final T oldElement = oldElements.get(i);
+
+      if(newElement != oldElement) {
+        elementObservers.fire().elementChanged(newElement, oldElement);
+
+        changed++;
+      }
+    }
+
+    countMutation(MutationType.CHANGED, changed);
+  }
+
+  protected void fireElementsRemovedEvent(final int fromIndex, final List<T> elements) {
+    for(final T element : elements) {
+      if(advanceVersion()) {
+        logChange(Change.removed(element, fromIndex));
+      }
+    }
+
+    // Collection-level listeners and observers hear every removal; list-level listeners get only the range event below.
+    for(final T element : elements) {
+      dispatchElementRemovedEvent(element);
+    }
+
+    purgeWeakListeners();
+
+    final ListElementsRemovedEvent<T, LST, SUB> event = new ListElementsRemovedEvent<>(fromIndex, elements, (SUB)this);
+
+    if(!isDispatchInstrumented()) {
+      listElementsRemovedListeners.fire().elementsRemoved(event);
+    } else {
+      fireInstrumented(ListElementsRemovedListener.class, listElementsRemovedListeners, listener -> listener.elementsRemoved(event));
+    }
+  }
+
+  protected void fireElementRemovedEvents(final List<T> before) {
+    final Iterator<T> after = getList().iterator();
+
+    boolean hasNext = after.hasNext();
+    T next = (hasNext ? after.next() : null);
+    int afterIndex = 0;
+
+    for(final T element : before) {
+      if(hasNext && Objects.equals(element, next)) {
+        afterIndex++;
+        hasNext = after.hasNext();
+        next = (hasNext ? after.next() : null);
+      } else {
+        fireElementRemovedEvent(element, afterIndex);
+      }
+    }
   }
 
   // Getters/setters
@@ -132,15 +454,27 @@ public abstract class AbstractObservableList<T, LST extends List<T>, SUB extends
 
   @Override
   public boolean addAll(final Collection<? extends T> collection) {
-    final boolean modified = getList().addAll(collection);
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
 
-    if(modified) {
-      for(int i = getList().size() - collection.size(); i < getList().size(); i++) {
-        fireElementAddedEvent(getList().get(i), i);
+    bulkEvent.begin();
+    beginBulkMutation();
+
+    try {
+      final boolean modified = getList().addAll(collection);
+
+      if(modified) {
+        for(int i = getList().size() - collection.size(); i < getList().size(); i++) {
+          fireElementAddedEvent(getList().get(i), i);
+        }
       }
-    }
 
-    return modified;
+      bulkEvent.complete(this, "addAll", sizeBefore, size());
+
+      return modified;
+    } finally {
+      endBulkMutation();
+    }
   }
 
   @Override
@@ -158,69 +492,97 @@ public abstract class AbstractObservableList<T, LST extends List<T>, SUB extends
 
   @Override
   public boolean removeAll(final Collection<?> collection) {
-    final List<T> copy = Collections.unmodifiableList(getList());
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
 
-    final boolean modified = getList().removeAll(collection);
+    bulkEvent.begin();
+    beginBulkMutation();
 
-    if(modified) {
-      for(int i = 0; i < copy.size(); i++) {
-        final T element = copy.get(i);
+    try {
+      final List<T> before = new ArrayList<>(getList());
 
-        if(collection.contains(element)) {
-          fireElementRemovedEvent(element, i);
-        }
+      final boolean modified = getList().removeAll(collection);
+
+      if(modified) {
+        fireElementRemovedEvents(before);
       }
-    }
 
-    return modified;
+      bulkEvent.complete(this, "removeAll", sizeBefore, size());
+
+      return modified;
+    } finally {
+      endBulkMutation();
+    }
   }
 
   @Override
   public boolean removeIf(final Predicate<? super T> filter) {
-    final List<T> copy = Collections.unmodifiableList(getList());
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
 
-    final boolean modified = getList().removeIf(filter);
+    bulkEvent.begin();
+    beginBulkMutation();
 
-    if(modified) {
-      for(int i = 0; i < copy.size(); i++) {
-        final T element = copy.get(i);
+    try {
+      final List<T> before = new ArrayList<>(getList());
 
-        if(!getList().contains(element)) {
-          fireElementRemovedEvent(element, i);
-        }
+      final boolean modified = getList().removeIf(filter);
+
+      if(modified) {
+        fireElementRemovedEvents(before);
       }
-    }
 
-    return modified;
+      bulkEvent.complete(this, "removeIf", sizeBefore, size());
+
+      return modified;
+    } finally {
+      endBulkMutation();
+    }
   }
 
   @Override
   public boolean retainAll(final Collection<?> collection) {
-    final List<T> copy = Collections.unmodifiableList(getList());
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
 
-    final boolean modified = getList().retainAll(collection);
+    bulkEvent.begin();
+    beginBulkMutation();
 
-    if(modified) {
-      for(int i = 0; i < copy.size(); i++) {
-        final T element = copy.get(i);
+    try {
+      final List<T> before = new ArrayList<>(getList());
 
-        if(!collection.contains(element)) {
-          fireElementRemovedEvent(element, i);
-        }
+      final boolean modified = getList().retainAll(collection);
+
+      if(modified) {
+        fireElementRemovedEvents(before);
       }
-    }
 
-    return modified;
+      bulkEvent.complete(this, "retainAll", sizeBefore, size());
+
+      return modified;
+    } finally {
+      endBulkMutation();
+    }
   }
 
   @Override
   public void clear() {
-    final List<T> removed = Collections.unmodifiableList(getList());
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
+
+    bulkEvent.begin();
+    beginBulkMutation();
+
+    try {
+      final List<T> before = new ArrayList<>(getList());
 
-    getList().clear();
+      getList().clear();
 
-    for(int i = 0; i < removed.size(); i++) {
-      fireElementRemovedEvent(removed.get(i), i);
+      fireElementRemovedEvents(before);
+
+      bulkEvent.complete(this, "clear", sizeBefore, size());
+    } finally {
+      endBulkMutation();
     }
   }
 
@@ -232,6 +594,167 @@ public abstract class AbstractObservableList<T, LST extends List<T>, SUB extends
   // List methods
   //--------------------------------------------------
 
+  @Override
+  public void sort(final Comparator<? super T> comparator) {
+    final T[] elements = (T[])getList().toArray();
+    final int[] order = IndexSort.sort(elements, (comparator != null ? comparator : (Comparator<? super T>)Comparator.naturalOrder()));
+    final int[] permutation = new int[order.length];
+
+    boolean permuted = false;
+
+    for(int i = 0; i < order.length; i++) {
+      permutation[order[i]] = i;
+      permuted |= (order[i] != i);
+    }
+
+    if(!permuted) {
+      return;
+    }
+
+    final ListIterator<T> iterator = getList().listIterator();
+
+    for(final int index : order) {
+      iterator.next();
+      iterator.set(elements[index]);
+    }
+
+    fireElementsPermutedEvent(permutation);
+  }
+
+  @Override
+  public void replaceAll(final UnaryOperator<T> operator) {
+    Objects.requireNonNull(operator);
+
+    final T[] oldElements = (T[])getList().toArray();
+    final T[] newElements = oldElements.clone();
+
+    int fromIndex = -1;
+    int toIndex = -1;
+
+    final ListIterator<T> iterator = getList().listIterator();
+
+    for(int i = 0; i < oldElements.length; i++) {
+      iterator.next();
+
+      newElements[i] = operator.apply(oldElements[i]);
+
+      iterator.set(newElements[i]);
+
+      if(newElements[i] != oldElements[i]) {
+        if(fromIndex < 0) {
+          fromIndex = i;
+        }
+
+        toIndex = i + 1;
+      }
+    }
+
+    if(fromIndex < 0) {
+      return;
+    }
+
+    // Only the span from the first to the last changed element is reported, as in parallelReplaceAll.
+    fireElementsChangedEvent(fromIndex, Collections.unmodifiableList(Arrays.asList(newElements).subList(fromIndex, toIndex)),
+        Collections.unmodifiableList(Arrays.asList(oldElements).subList(fromIndex, toIndex)));
+  }
+
+  public boolean parallelRemoveIf(final Predicate<? super T> filter) {
+    return parallelRemoveIf(filter, ForkJoinPool.commonPool());
+  }
+
+  public boolean parallelRemoveIf(final Predicate<? super T> filter, final ForkJoinPool pool) {
+    Objects.requireNonNull(filter);
+
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
+
+    bulkEvent.begin();
+    beginBulkMutation();
+
+    try {
+      final T[] elements = (T[])getList().toArray();
+      final int[] removed = ParallelScan.scan(pool, elements.length, (index -> filter.test(elements[index])));
+
+      if(removed.length == 0) {
+        bulkEvent.complete(this, "parallelRemoveIf", sizeBefore, size());
+
+        return false;
+      }
+
+      final ListIterator<T> iterator = getList().listIterator();
+
+      int next = 0;
+
+      for(int i = 0; i < elements.length; i++) {
+        if(next < removed.length && removed[next] == i) {
+          next++;
+        } else {
+          iterator.next();
+          iterator.set(elements[i]);
+        }
+      }
+
+      getList().subList(elements.length - removed.length, elements.length).clear();
+
+      for(int i = 0; i < removed.length; i++) {
+        fireElementRemovedEvent(elements[removed[i]], removed[i] - i);
+      }
+
+      bulkEvent.complete(this, "parallelRemoveIf", sizeBefore, size());
+
+      return true;
+    } finally {
+      endBulkMutation();
+    }
+  }
+
+  public void parallelReplaceAll(final UnaryOperator<T> operator) {
+    parallelReplaceAll(operator, ForkJoinPool.commonPool());
+  }
+
+  public void parallelReplaceAll(final UnaryOperator<T> operator, final ForkJoinPool pool) {
+    Objects.requireNonNull(operator);
+
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
+
+    bulkEvent.begin();
+    beginBulkMutation();
+
+    try {
+      final T[] oldElements = (T[])getList().toArray();
+      final T[] newElements = oldElements.clone();
+      final int[] changed = ParallelScan.scan(pool, oldElements.length, (index -> {
+        newElements[index] = operator.apply(oldElements[index]);
+
+        return (newElements[index] != oldElements[index]);
+      }));
+
+      if(changed.length == 0) {
+        bulkEvent.complete(this, "parallelReplaceAll", sizeBefore, size());
+
+        return;
+      }
+
+      final int fromIndex = changed[0];
+      final int toIndex = changed[changed.length - 1] + 1;
+
+      final ListIterator<T> iterator = getList().listIterator(fromIndex);
+
+      for(int i = fromIndex; i < toIndex; i++) {
+        iterator.next();
+        iterator.set(newElements[i]);
+      }
+
+      fireElementsChangedEvent(fromIndex, Collections.unmodifiableList(Arrays.asList(newElements).subList(fromIndex, toIndex)),
+          Collections.unmodifiableList(Arrays.asList(oldElements).subList(fromIndex, toIndex)));
+
+      bulkEvent.complete(this, "parallelReplaceAll", sizeBefore, size());
+    } finally {
+      endBulkMutation();
+    }
+  }
+
   @Override
   public T get(final int index) {
     return getList().get(index);
@@ -257,15 +780,27 @@ public abstract class AbstractObservableList<T, LST extends List<T>, SUB extends
 
   @Override
   public boolean addAll(int index, final Collection<? extends T> collection) {
-    final boolean modified = getList().addAll(index, collection);
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
 
-    if(modified) {
-      for(final T element : collection) {
-        fireElementAddedEvent(element, index++);
+    bulkEvent.begin();
+    beginBulkMutation();
+
+    try {
+      final boolean modified = getList().addAll(index, collection);
+
+      if(modified) {
+        for(final T element : collection) {
+          fireElementAddedEvent(element, index++);
+        }
       }
-    }
 
-    return modified;
+      bulkEvent.complete(this, "addAll", sizeBefore, size());
+
+      return modified;
+    } finally {
+      endBulkMutation();
+    }
   }
 
   @Override
@@ -277,6 +812,242 @@ public abstract class AbstractObservableList<T, LST extends List<T>, SUB extends
     return element;
   }
 
+  public void setAll(final Collection<? extends T> collection) {
+    final List<T> target = new ArrayList<>(collection);
+    final List<T> source = (getList() instanceof RandomAccess ? getList() : new ArrayList<>(getList()));
+
+    final List<ListDiff.Edit<T>> edits = ListDiff.compute(source, target);
+
+    if(edits.isEmpty()) {
+      return;
+    }
+
+    beginBulkMutation();
+
+    try {
+      if(getList() instanceof RandomAccess) {
+        applyEditRuns(edits);
+      } else {
+        applyEditsInPlace(edits);
+      }
+    } finally {
+      endBulkMutation();
+    }
+  }
+
+  // Array-backed lists shift on every insert or remove, so each run of adjacent adds or removes is applied in one call.
+  private void applyEditRuns(final List<ListDiff.Edit<T>> edits) {
+    final List<T> list = getList();
+
+    int start = 0;
+
+    while(start < edits.size()) {
+      final ListDiff.Edit<T> first = edits.get(start);
+      final int index = first.index;
+
+      int end = start + 1;
+
+      switch(first.type) {
+        case ADD:
+          while(end < edits.size() && edits.get(end).type == ListDiff.EditType.ADD && edits.get(end).index == index + (end - start)) {
+            end++;
+          }
+
+          final List<T> run = new ArrayList<>(end - start);
+
+          for(int i = start; i < end; i++) {
+            run.add(edits.get(i).element);
+          }
+
+          list.addAll(index, run);
+
+          for(int i = start; i < end; i++) {
+            fireElementAddedEvent(edits.get(i).element, edits.get(i).index);
+          }
+
+          break;
+        case REMOVE:
+          while(end < edits.size() && edits.get(end).type == ListDiff.EditType.REMOVE && edits.get(end).index == index) {
+            end++;
+          }
+
+          list.subList(index, index + (end - start)).clear();
+
+          for(int i = start; i < end; i++) {
+            fireElementRemovedEvent(edits.get(i).oldElement, index);
+          }
+
+          break;
+        case CHANGE:
+          list.set(index, first.element);
+          fireElementChangedEvent(first.element, first.oldElement, index);
+
+          break;
+      }
+
+      start = end;
+    }
+  }
+
+  // Edits come in ascending index order, so a single forward walk applies them in place.
+  private void applyEditsInPlace(final List<ListDiff.Edit<T>> edits) {
+    final ListIterator<T> iterator = getList().listIterator();
+
+    for(final ListDiff.Edit<T> edit : edits) {
+      while(iterator.nextIndex() < edit.index) {
+        iterator.next();
+      }
+
+      switch(edit.type) {
+        case ADD:
+          iterator.add(edit.element);
+          fireElementAddedEvent(edit.element, edit.index);
+          break;
+        case REMOVE:
+          iterator.next();
+          iterator.remove();
+          fireElementRemovedEvent(edit.oldElement, edit.index);
+          break;
+        case CHANGE:
+          iterator.next();
+          iterator.set(edit.element);
+          fireElementChangedEvent(edit.element, edit.oldElement, edit.index);
+          break;
+      }
+    }
+  }
+
+  public void removeRange(final int fromIndex, final int toIndex) {
+    Objects.checkFromToIndex(fromIndex, toIndex, size());
+
+    if(fromIndex == toIndex) {
+      return;
+    }
+
+    final List<T> range = getList().subList(fromIndex, toIndex);
+    final List<T> elements = new ArrayList<>(range);
+
+    range.clear();
+
+    beginBulkMutation();
+
+    try {
+      fireElementsRemovedEvent(fromIndex, Collections.unmodifiableList(elements));
+    } finally {
+      endBulkMutation();
+    }
+  }
+
+  public void setRange(final int fromIndex, final List<? extends T> elements) {
+    Objects.checkFromIndexSize(fromIndex, elements.size(), size());
+
+    if(elements.isEmpty()) {
+      return;
+    }
+
+    final List<T> oldElements = new ArrayList<>(getList().subList(fromIndex, fromIndex + elements.size()));
+    final List<T> newElements = new ArrayList<>(elements);
+    final ListIterator<T> iterator = getList().listIterator(fromIndex);
+
+    boolean changed = false;
+
+    for(final T element : newElements) {
+      changed |= (iterator.next() != element);
+
+      iterator.set(element);
+    }
+
+    if(changed) {
+      fireElementsChangedEvent(fromIndex, Collections.unmodifiableList(newElements), Collections.unmodifiableList(oldElements));
+    }
+  }
+
+  public void permute(final int[] permutation) {
+    if(permutation.length != size()) {
+      throw new IllegalArgumentException("Permutation length must match the list size.");
+    }
+
+    final T[] elements = (T[])getList().toArray();
+    final T[] permuted = (T[])new Object[elements.length];
+    final boolean[] seen = new boolean[elements.length];
+
+    boolean identity = true;
+
+    for(int i = 0; i < permutation.length; i++) {
+      final int target = permutation[i];
+
+      if(target < 0 || target >= seen.length || seen[target]) {
+        throw new IllegalArgumentException("Not a permutation.");
+      }
+
+      seen[target] = true;
+      permuted[target] = elements[i];
+      identity &= (target == i);
+    }
+
+    if(identity) {
+      return;
+    }
+
+    final ListIterator<T> iterator = getList().listIterator();
+
+    for(final T element : permuted) {
+      iterator.next();
+      iterator.set(element);
+    }
+
+    fireElementsPermutedEvent(permutation.clone());
+  }
+
+  public void move(final int fromIndex, final int toIndex) {
+    Objects.checkIndex(fromIndex, size());
+    Objects.checkIndex(toIndex, size());
+
+    if(fromIndex == toIndex) {
+      return;
+    }
+
+    final T element = getList().get(fromIndex);
+
+    if(fromIndex < toIndex) {
+      Collections.rotate(getList().subList(fromIndex, toIndex + 1), -1);
+    } else {
+      Collections.rotate(getList().subList(toIndex, fromIndex + 1), 1);
+    }
+
+    fireElementMovedEvent(element, fromIndex, toIndex);
+  }
+
+  public void swap(final int i, final int j) {
+    Objects.checkIndex(i, size());
+    Objects.checkIndex(j, size());
+
+    if(i == j) {
+      return;
+    }
+
+    final int low = Math.min(i, j);
+    final int high = Math.max(i, j);
+
+    final T lowElement = getList().get(low);
+    final T highElement = getList().get(high);
+
+    Collections.swap(getList(), low, high);
+
+    // A swap is reported as two moves, bracketed so that bulk observers such as UndoManager treat it as one step.
+    beginBulkMutation();
+
+    try {
+      fireElementMovedEvent(lowElement, low, high);
+
+      if(high - low > 1) {
+        fireElementMovedEvent(highElement, high - 1, low);
+      }
+    } finally {
+      endBulkMutation();
+    }
+  }
+
   @Override
   public int indexOf(final Object element) {
     return getList().indexOf(element);
@@ -335,9 +1106,7 @@ public abstract class AbstractObservableList<T, LST extends List<T>, SUB extends
     }
 
     @Override
-    public void remove() {
-      super.remove();
-
+    protected void fireRemoved() {
       AbstractObservableList.this.fireElementRemovedEvent(lastElement, lastIndex--);
     }
 
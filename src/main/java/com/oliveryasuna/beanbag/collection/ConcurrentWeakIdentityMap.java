@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+// Per-listener bookkeeping for code on the dispatch path: weakly keyed by identity, with lock-free lookups of present keys.
+public final class ConcurrentWeakIdentityMap<K, V> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public ConcurrentWeakIdentityMap() {
+    super();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Map<Object, V> map = new ConcurrentHashMap<>();
+
+  private final ReferenceQueue<Object> collectedKeys = new ReferenceQueue<>();
+
+  // Methods
+  //--------------------------------------------------
+
+  public V get(final Object key) {
+    return map.get(new Lookup(key));
+  }
+
+  public V computeIfAbsent(final K key, final Function<? super K, ? extends V> factory) {
+    final V existing = map.get(new Lookup(key));
+
+    if(existing != null) {
+      return existing;
+    }
+
+    expungeCollectedKeys();
+
+    final V created = factory.apply(key);
+    final V raced = map.putIfAbsent(new WeakKey(key, collectedKeys), created);
+
+    return (raced != null ? raced : created);
+  }
+
+  public V remove(final Object key) {
+    return map.remove(new Lookup(key));
+  }
+
+  public void forEach(final BiConsumer<? super K, ? super V> action) {
+    map.forEach((key, value) -> {
+      final K referent = (K)((WeakKey)key).get();
+
+      if(referent != null) {
+        action.accept(referent, value);
+      }
+    });
+  }
+
+  private void expungeCollectedKeys() {
+    Reference<?> collected;
+
+    while((collected = collectedKeys.poll()) != null) {
+      map.remove(collected);
+    }
+  }
+
+  // WeakKey
+  //--------------------------------------------------
+
+  private static final class WeakKey extends WeakReference<Object> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private WeakKey(final Object key, final ReferenceQueue<Object> queue) {
+      super(key, queue);
+
+      this.hash = System.identityHashCode(key);
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final int hash;
+
+    // Object methods
+    //--------------------------------------------------
+
+    @Override
+    public boolean equals(final Object other) {
+      if(this == other) return true;
+
+      final Object key = get();
+
+      if(key == null) return false;
+
+      if(other instanceof WeakKey) return (key == ((WeakKey)other).get());
+      if(other instanceof Lookup) return (key == ((Lookup)other).key);
+
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+  }
+
+  // Lookup
+  //--------------------------------------------------
+
+  private static final class Lookup {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Lookup(final Object key) {
+      super();
+
+      this.key = key;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final Object key;
+
+    // Object methods
+    //--------------------------------------------------
+
+    @Override
+    public boolean equals(final Object other) {
+      return (other instanceof WeakKey && ((WeakKey)other).get() == key);
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(key);
+    }
+
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import com.oliveryasuna.commons.language.exception.UtilityClassException;
+
+import java.util.Comparator;
+
+final class IndexSort {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int INSERTION_SORT_THRESHOLD = 16;
+
+  // Static methods
+  //--------------------------------------------------
+
+  static <T> int[] sort(final T[] elements, final Comparator<? super T> comparator) {
+    final int[] order = new int[elements.length];
+
+    for(int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+
+    sort(order, order.clone(), 0, order.length, elements, comparator);
+
+    return order;
+  }
+
+  private static <T> void sort(final int[] order, final int[] buffer, final int from, final int to, final T[] elements,
+      final Comparator<? super T> comparator) {
+    if(to - from <= INSERTION_SORT_THRESHOLD) {
+      for(int i = from + 1; i < to; i++) {
+        final int index = order[i];
+        int j = i - 1;
+
+        while(j >= from && comparator.compare(elements[order[j]], elements[index]) > 0) {
+          order[j + 1] = order[j];
+          j--;
+        }
+
+        order[j + 1] = index;
+      }
+
+      return;
+    }
+
+    final int middle = (from + to) >>> 1;
+
+    sort(buffer, order, from, middle, elements, comparator);
+    sort(buffer, order, middle, to, elements, comparator);
+
+    if(comparator.compare(elements[buffer[middle - 1]], elements[buffer[middle]]) <= 0) {
+      System.arraycopy(buffer, from, order, from, to - from);
+
+      return;
+    }
+
+    for(int i = from, left = from, right = middle; i < to; i++) {
+      if(right >= to || (left < middle && comparator.compare(elements[buffer[left]], elements[buffer[right]]) <= 0)) {
+        order[i] = buffer[left++];
+      } else {
+        order[i] = buffer[right++];
+      }
+    }
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private IndexSort() {
+    super();
+
+    throw new UtilityClassException();
+  }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import com.oliveryasuna.commons.language.exception.UtilityClassException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+final class ListDiff {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final long MAX_WORK = 1L << 24;
+
+  // Static methods
+  //--------------------------------------------------
+
+  static <T> List<Edit<T>> compute(final List<T> source, final List<T> target) {
+    final int sourceSize = source.size();
+    final int targetSize = target.size();
+
+    int prefix = 0;
+
+    while(prefix < sourceSize && prefix < targetSize && Objects.equals(source.get(prefix), target.get(prefix))) {
+      prefix++;
+    }
+
+    int suffix = 0;
+
+    while(suffix < sourceSize - prefix && suffix < targetSize - prefix
+        && Objects.equals(source.get(sourceSize - suffix - 1), target.get(targetSize - suffix - 1))) {
+      suffix++;
+    }
+
+    final List<T> a = source.subList(prefix, sourceSize - suffix);
+    final List<T> b = target.subList(prefix, targetSize - suffix);
+
+    final List<Edit<T>> edits = new ArrayList<>();
+
+    if(a.isEmpty() && b.isEmpty()) {
+      return edits;
+    }
+
+    final List<int[]> hunks = myers(a, b);
+
+    if(hunks == null) {
+      emitHunk(a, b, 0, a.size(), 0, b.size(), prefix, edits);
+    } else {
+      for(final int[] hunk : hunks) {
+        emitHunk(a, b, hunk[0], hunk[1], hunk[2], hunk[3], prefix, edits);
+      }
+    }
+
+    return edits;
+  }
+
+  private static <T> List<int[]> myers(final List<T> a, final List<T> b) {
+    final int n = a.size();
+    final int m = b.size();
+    final int maxD = (int)Math.min(n + m, Math.max(64, MAX_WORK / (n + m)));
+
+    final int offset = n + m + 1;
+    final int[] v = new int[2 * offset + 1];
+    final List<int[]> trace = new ArrayList<>();
+
+    int distance = -1;
+
+    search:
+    for(int d = 0; d <= maxD; d++) {
+      for(int k = -d; k <= d; k += 2) {
+        int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]) ? v[offset + k + 1] : v[offset + k - 1] + 1);
+        int y = x - k;
+
+        while(x < n && y < m && Objects.equals(a.get(x), b.get(y))) {
+          x++;
+          y++;
+        }
+
+        v[offset + k] = x;
+
+        if(x >= n && y >= m) {
+          trace.add(copy(v, offset, d));
+          distance = d;
+
+          break search;
+        }
+      }
+
+      trace.add(copy(v, offset, d));
+    }
+
+    if(distance < 0) {
+      return null;
+    }
+
+    final List<int[]> hunks = new ArrayList<>();
+
+    int x = n;
+    int y = m;
+    int hunkEndX = -1;
+    int hunkEndY = -1;
+
+    for(int d = distance; d > 0; d--) {
+      final int[] previous = trace.get(d - 1);
+      final int k = x - y;
+      final int previousK = (k == -d || (k != d && at(previous, d - 1, k - 1) < at(previous, d - 1, k + 1)) ? k + 1 : k - 1);
+      final int previousX = at(previous, d - 1, previousK);
+      final int previousY = previousX - previousK;
+
+      if(x > previousX && y > previousY && hunkEndX >= 0) {
+        hunks.add(new int[] {x, hunkEndX, y, hunkEndY});
+        hunkEndX = -1;
+      }
+
+      while(x > previousX && y > previousY) {
+        x--;
+        y--;
+      }
+
+      if(hunkEndX < 0) {
+        hunkEndX = x;
+        hunkEndY = y;
+      }
+
+      x = previousX;
+      y = previousY;
+    }
+
+    if(hunkEndX >= 0) {
+      hunks.add(new int[] {x, hunkEndX, y, hunkEndY});
+    }
+
+    Collections.reverse(hunks);
+
+    return hunks;
+  }
+
+  private static int[] copy(final int[] v, final int offset, final int d) {
+    final int[] copy = new int[2 * d + 1];
+
+    System.arraycopy(v, offset - d, copy, 0, copy.length);
+
+    return copy;
+  }
+
+  private static int at(final int[] window, final int d, final int k) {
+    return (k < -d || k > d ? -1 : window[k + d]);
+  }
+
+  private static <T> void emitHunk(final List<T> a, final List<T> b, final int fromA, final int toA, final int fromB, final int toB,
+      final int prefix, final List<Edit<T>> edits) {
+    final int removed = toA - fromA;
+    final int added = toB - fromB;
+    final int changed = Math.min(removed, added);
+    final int index = prefix + fromB;
+
+    for(int i = 0; i < changed; i++) {
+      edits.add(new Edit<>(EditType.CHANGE, index + i, b.get(fromB + i), a.get(fromA + i)));
+    }
+
+    for(int i = changed; i < removed; i++) {
+      edits.add(new Edit<>(EditType.REMOVE, index + changed, null, a.get(fromA + i)));
+    }
+
+    for(int i = changed; i < added; i++) {
+      edits.add(new Edit<>(EditType.ADD, index + i, b.get(fromB + i), null));
+    }
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private ListDiff() {
+    super();
+
+    throw new UtilityClassException();
+  }
+
+  // Edit
+  //--------------------------------------------------
+
+  enum EditType {
+
+    ADD,
+
+    REMOVE,
+
+    CHANGE
+
+  }
+
+  static final class Edit<T> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Edit(final EditType type, final int index, final T element, final T oldElement) {
+      super();
+
+      this.type = type;
+      this.index = index;
+      this.element = element;
+      this.oldElement = oldElement;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    final EditType type;
+
+    final int index;
+
+    final T element;
+
+    final T oldElement;
+
+  }
+
+}
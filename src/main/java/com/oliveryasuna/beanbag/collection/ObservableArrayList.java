@@ -0,0 +1,537 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public final class ObservableArrayList<T> extends AbstractObservableList<T, List<T>, ObservableArrayList<T>> implements RandomAccess {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int DEFAULT_CAPACITY = 10;
+
+  // Constructors
+  //--------------------------------------------------
+
+  public ObservableArrayList() {
+    this(new ArrayStorage<>(DEFAULT_CAPACITY));
+  }
+
+  public ObservableArrayList(final int initialCapacity) {
+    this(new ArrayStorage<>(initialCapacity));
+  }
+
+  public ObservableArrayList(final Collection<? extends T> collection) {
+    this(new ArrayStorage<>(collection.toArray()));
+  }
+
+  private ObservableArrayList(final ArrayStorage<T> storage) {
+    super(storage);
+
+    this.storage = storage;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final ArrayStorage<T> storage;
+
+  // Collection methods
+  //--------------------------------------------------
+
+  @Override
+  public int size() {
+    return storage.size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return (storage.size == 0);
+  }
+
+  @Override
+  public boolean contains(final Object element) {
+    return (storage.indexOf(element) >= 0);
+  }
+
+  @Override
+  public boolean add(final T element) {
+    final int index = storage.size;
+
+    storage.append(element);
+
+    fireElementAddedEvent(element, index);
+
+    return true;
+  }
+
+  @Override
+  public boolean remove(final Object element) {
+    final int index = storage.indexOf(element);
+
+    if(index < 0) {
+      return false;
+    }
+
+    final T removed = storage.remove(index);
+
+    fireElementRemovedEvent(removed, index);
+
+    return true;
+  }
+
+  // List methods
+  //--------------------------------------------------
+
+  @Override
+  public T get(final int index) {
+    return storage.get(index);
+  }
+
+  @Override
+  public T set(final int index, final T element) {
+    final T oldElement = storage.set(index, element);
+
+    if(element != oldElement) {
+      fireElementChangedEvent(element, oldElement, index);
+    }
+
+    return oldElement;
+  }
+
+  @Override
+  public void add(final int index, final T element) {
+    storage.add(index, element);
+
+    fireElementAddedEvent(element, index);
+  }
+
+  @Override
+  public T remove(final int index) {
+    final T element = storage.remove(index);
+
+    fireElementRemovedEvent(element, index);
+
+    return element;
+  }
+
+  @Override
+  public int indexOf(final Object element) {
+    return storage.indexOf(element);
+  }
+
+  @Override
+  public int lastIndexOf(final Object element) {
+    return storage.lastIndexOf(element);
+  }
+
+  public void ensureCapacity(final int minCapacity) {
+    storage.ensureCapacity(minCapacity);
+  }
+
+  public void trimToSize() {
+    storage.trimToSize();
+  }
+
+  // ArrayStorage
+  //--------------------------------------------------
+
+  private static final class ArrayStorage<T> extends AbstractList<T> implements RandomAccess {
+
+    // Static fields
+    //--------------------------------------------------
+
+    private static final Object[] EMPTY = {};
+
+    // Constructors
+    //--------------------------------------------------
+
+    private ArrayStorage(final int initialCapacity) {
+      super();
+
+      if(initialCapacity < 0) {
+        throw new IllegalArgumentException("Capacity must not be negative.");
+      }
+
+      this.elements = (initialCapacity == 0 ? EMPTY : new Object[initialCapacity]);
+    }
+
+    private ArrayStorage(final Object[] elements) {
+      super();
+
+      this.elements = Arrays.copyOf(elements, elements.length, Object[].class);
+      this.size = elements.length;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private Object[] elements;
+
+    private int size;
+
+    // Methods
+    //--------------------------------------------------
+
+    private void ensureCapacity(final int minCapacity) {
+      if(minCapacity > elements.length) {
+        elements = Arrays.copyOf(elements, Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, elements.length + (elements.length >> 1))));
+      }
+    }
+
+    private void trimToSize() {
+      modCount++;
+
+      if(size < elements.length) {
+        elements = (size == 0 ? EMPTY : Arrays.copyOf(elements, size));
+      }
+    }
+
+    private void append(final T element) {
+      modCount++;
+
+      if(size == elements.length) {
+        ensureCapacity(size + 1);
+      }
+
+      elements[size++] = element;
+    }
+
+    // List methods
+    //--------------------------------------------------
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public T get(final int index) {
+      Objects.checkIndex(index, size);
+
+      return (T)elements[index];
+    }
+
+    @Override
+    public T set(final int index, final T element) {
+      Objects.checkIndex(index, size);
+
+      final T oldElement = (T)elements[index];
+
+      elements[index] = element;
+
+      return oldElement;
+    }
+
+    @Override
+    public boolean add(final T element) {
+      append(element);
+
+      return true;
+    }
+
+    @Override
+    public void add(final int index, final T element) {
+      Objects.checkIndex(index, size + 1);
+
+      modCount++;
+
+      if(size == elements.length) {
+        ensureCapacity(size + 1);
+      }
+
+      System.arraycopy(elements, index, elements, index + 1, size - index);
+
+      elements[index] = element;
+
+      size++;
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends T> collection) {
+      return addAll(size, collection);
+    }
+
+    @Override
+    public boolean addAll(final int index, final Collection<? extends T> collection) {
+      Objects.checkIndex(index, size + 1);
+
+      final Object[] added = collection.toArray();
+
+      if(added.length == 0) {
+        return false;
+      }
+
+      modCount++;
+
+      ensureCapacity(size + added.length);
+
+      System.arraycopy(elements, index, elements, index + added.length, size - index);
+      System.arraycopy(added, 0, elements, index, added.length);
+
+      size += added.length;
+
+      return true;
+    }
+
+    @Override
+    public T remove(final int index) {
+      Objects.checkIndex(index, size);
+
+      modCount++;
+
+      final T element = (T)elements[index];
+
+      System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+
+      elements[--size] = null;
+
+      return element;
+    }
+
+    @Override
+    protected void removeRange(final int fromIndex, final int toIndex) {
+      modCount++;
+
+      System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+
+      final int newSize = size - (toIndex - fromIndex);
+
+      Arrays.fill(elements, newSize, size, null);
+
+      size = newSize;
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super T> filter) {
+      Objects.requireNonNull(filter);
+
+      // Test every element before touching the array, so a throwing predicate leaves the storage intact.
+      final int expectedModCount = modCount;
+      final BitSet removed = new BitSet(size);
+
+      for(int i = 0; i < size; i++) {
+        if(filter.test((T)elements[i])) {
+          removed.set(i);
+        }
+      }
+
+      if(modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+
+      if(removed.isEmpty()) {
+        return false;
+      }
+
+      modCount++;
+
+      int retained = 0;
+
+      for(int i = 0; i < size; i++) {
+        if(!removed.get(i)) {
+          elements[retained++] = elements[i];
+        }
+      }
+
+      Arrays.fill(elements, retained, size, null);
+
+      size = retained;
+
+      return true;
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> collection) {
+      Objects.requireNonNull(collection);
+
+      return removeIf(collection::contains);
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> collection) {
+      Objects.requireNonNull(collection);
+
+      return removeIf(element -> !collection.contains(element));
+    }
+
+    @Override
+    public void clear() {
+      modCount++;
+
+      Arrays.fill(elements, 0, size, null);
+
+      size = 0;
+    }
+
+    @Override
+    public int indexOf(final Object element) {
+      final Object[] elements = this.elements;
+
+      if(element == null) {
+        for(int i = 0; i < size; i++) {
+          if(elements[i] == null) {
+            return i;
+          }
+        }
+      } else {
+        for(int i = 0; i < size; i++) {
+          if(element.equals(elements[i])) {
+            return i;
+          }
+        }
+      }
+
+      return -1;
+    }
+
+    @Override
+    public int lastIndexOf(final Object element) {
+      for(int i = size - 1; i >= 0; i--) {
+        if(Objects.equals(element, elements[i])) {
+          return i;
+        }
+      }
+
+      return -1;
+    }
+
+    @Override
+    public boolean contains(final Object element) {
+      return (indexOf(element) >= 0);
+    }
+
+    @Override
+    public Object[] toArray() {
+      return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+      return new IndexSpliterator(0, -1, 0);
+    }
+
+    // IndexSpliterator
+    //--------------------------------------------------
+
+    // Binds to the size on first use, like ArrayList's, and checks modCount once traversal ends.
+    private final class IndexSpliterator implements Spliterator<T> {
+
+      // Constructors
+      //--------------------------------------------------
+
+      private IndexSpliterator(final int index, final int fence, final int expectedModCount) {
+        super();
+
+        this.index = index;
+        this.fence = fence;
+        this.expectedModCount = expectedModCount;
+      }
+
+      // Fields
+      //--------------------------------------------------
+
+      private int index;
+
+      private int fence;
+
+      private int expectedModCount;
+
+      // Methods
+      //--------------------------------------------------
+
+      private int getFence() {
+        if(fence < 0) {
+          expectedModCount = modCount;
+          fence = size;
+        }
+
+        return fence;
+      }
+
+      // Spliterator methods
+      //--------------------------------------------------
+
+      @Override
+      public Spliterator<T> trySplit() {
+        final int high = getFence();
+        final int low = index;
+        final int middle = (low + high) >>> 1;
+
+        return (low >= middle ? null : new IndexSpliterator(low, index = middle, expectedModCount));
+      }
+
+      @Override
+      public boolean tryAdvance(final Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+
+        final int high = getFence();
+        final int current = index;
+
+        if(current >= high) {
+          return false;
+        }
+
+        index = current + 1;
+
+        action.accept((T)elements[current]);
+
+        if(modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+
+        return true;
+      }
+
+      @Override
+      public void forEachRemaining(final Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+
+        final int high = getFence();
+        final Object[] elements = ArrayStorage.this.elements;
+
+        for(int i = index; i < high; i++) {
+          action.accept((T)elements[i]);
+        }
+
+        index = high;
+
+        if(modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+      }
+
+      @Override
+      public long estimateSize() {
+        return (getFence() - index);
+      }
+
+      @Override
+      public int characteristics() {
+        return (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+      }
+
+    }
+
+  }
+
+}
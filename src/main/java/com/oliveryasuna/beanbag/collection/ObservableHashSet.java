@@ -0,0 +1,489 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+public final class ObservableHashSet<T> extends AbstractObservableSet<T, Set<T>, ObservableHashSet<T>> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public ObservableHashSet() {
+    this(new HashStorage<>(HashStorage.DEFAULT_EXPECTED_SIZE));
+  }
+
+  public ObservableHashSet(final int expectedSize) {
+    this(new HashStorage<>(expectedSize));
+  }
+
+  public ObservableHashSet(final Collection<? extends T> collection) {
+    this(new HashStorage<>(collection.size()));
+
+    storage.addAll(collection);
+  }
+
+  private ObservableHashSet(final HashStorage<T> storage) {
+    super(storage);
+
+    this.storage = storage;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final HashStorage<T> storage;
+
+  // Collection methods
+  //--------------------------------------------------
+
+  @Override
+  public int size() {
+    return storage.size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return (storage.size == 0);
+  }
+
+  @Override
+  public boolean contains(final Object element) {
+    return (storage.find(element) >= 0);
+  }
+
+  @Override
+  public boolean add(final T element) {
+    if(!storage.add(element)) {
+      return false;
+    }
+
+    fireElementAddedEvent(element);
+
+    return true;
+  }
+
+  @Override
+  public boolean remove(final Object element) {
+    final int slot = storage.find(element);
+
+    if(slot < 0) {
+      return false;
+    }
+
+    final T removed = storage.removeSlot(slot);
+
+    fireElementRemovedEvent(removed);
+
+    return true;
+  }
+
+  // HashStorage
+  //--------------------------------------------------
+
+  private static final class HashStorage<T> extends AbstractSet<T> {
+
+    // Static fields
+    //--------------------------------------------------
+
+    private static final int DEFAULT_EXPECTED_SIZE = 12;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private static final Object NULL = new Object();
+
+    private static final Object TOMBSTONE = new Object();
+
+    // Static methods
+    //--------------------------------------------------
+
+    private static int capacityFor(final int expectedSize) {
+      if(expectedSize < 0) {
+        throw new IllegalArgumentException("Expected size must not be negative.");
+      }
+
+      // Keep the table at most half full so that linear probe sequences stay short.
+      final long wanted = Math.max(4L, 2L * expectedSize);
+
+      return (wanted >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit((int)wanted - 1) << 1);
+    }
+
+    private static int mix(final Object key) {
+      final int hash = key.hashCode() * 0x9E3779B9;
+
+      return (hash ^ (hash >>> 16));
+    }
+
+    private static Object mask(final Object element) {
+      return (element == null ? NULL : element);
+    }
+
+    private static <T> T unmask(final Object key) {
+      return (key == NULL ? null : (T)key);
+    }
+
+    // Constructors
+    //--------------------------------------------------
+
+    private HashStorage(final int expectedSize) {
+      super();
+
+      this.table = new Object[capacityFor(expectedSize)];
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private Object[] table;
+
+    private int size;
+
+    private int tombstones;
+
+    private int modCount;
+
+    // Methods
+    //--------------------------------------------------
+
+    private int find(final Object element) {
+      final Object key = mask(element);
+      final Object[] table = this.table;
+      final int mask = table.length - 1;
+
+      for(int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+        final Object candidate = table[slot];
+
+        if(candidate == null) {
+          return -1;
+        }
+
+        if(candidate != TOMBSTONE && (candidate == key || key.equals(candidate))) {
+          return slot;
+        }
+      }
+    }
+
+    private T removeSlot(final int slot) {
+      final T element = unmask(table[slot]);
+
+      modCount++;
+
+      // Leave a tombstone unless the next slot ends the probe sequence anyway.
+      if(table[(slot + 1) & (table.length - 1)] == null) {
+        table[slot] = null;
+      } else {
+        table[slot] = TOMBSTONE;
+
+        tombstones++;
+      }
+
+      size--;
+
+      return element;
+    }
+
+    private void resize(final int capacity) {
+      final Object[] oldTable = table;
+      final Object[] newTable = new Object[capacity];
+      final int mask = capacity - 1;
+
+      for(final Object key : oldTable) {
+        if(key != null && key != TOMBSTONE) {
+          int slot = mix(key) & mask;
+
+          while(newTable[slot] != null) {
+            slot = (slot + 1) & mask;
+          }
+
+          newTable[slot] = key;
+        }
+      }
+
+      table = newTable;
+      tombstones = 0;
+    }
+
+    // Set methods
+    //--------------------------------------------------
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean contains(final Object element) {
+      return (find(element) >= 0);
+    }
+
+    @Override
+    public boolean add(final T element) {
+      final Object key = mask(element);
+      final Object[] table = this.table;
+      final int mask = table.length - 1;
+
+      int firstTombstone = -1;
+      int slot = mix(key) & mask;
+
+      for(; ; slot = (slot + 1) & mask) {
+        final Object candidate = table[slot];
+
+        if(candidate == null) {
+          break;
+        }
+
+        if(candidate == TOMBSTONE) {
+          if(firstTombstone < 0) {
+            firstTombstone = slot;
+          }
+        } else if(candidate == key || key.equals(candidate)) {
+          return false;
+        }
+      }
+
+      modCount++;
+
+      if(firstTombstone >= 0) {
+        table[firstTombstone] = key;
+
+        tombstones--;
+      } else {
+        table[slot] = key;
+      }
+
+      size++;
+
+      if(2 * (size + tombstones) > table.length) {
+        resize(2 * size > table.length / 2 && table.length < MAXIMUM_CAPACITY ? table.length << 1 : table.length);
+      }
+
+      return true;
+    }
+
+    @Override
+    public boolean remove(final Object element) {
+      final int slot = find(element);
+
+      if(slot < 0) {
+        return false;
+      }
+
+      removeSlot(slot);
+
+      return true;
+    }
+
+    @Override
+    public void clear() {
+      modCount++;
+
+      Arrays.fill(table, null);
+
+      size = 0;
+      tombstones = 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return new Iterator<>() {
+
+        private int next = advance(0);
+
+        private int last = -1;
+
+        private int expectedModCount = modCount;
+
+        private int advance(int slot) {
+          final Object[] table = HashStorage.this.table;
+
+          while(slot < table.length && (table[slot] == null || table[slot] == TOMBSTONE)) {
+            slot++;
+          }
+
+          return slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+          return (next < table.length);
+        }
+
+        @Override
+        public T next() {
+          if(modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+          }
+
+          if(next >= table.length) {
+            throw new NoSuchElementException();
+          }
+
+          last = next;
+          next = advance(next + 1);
+
+          return unmask(table[last]);
+        }
+
+        @Override
+        public void remove() {
+          if(last < 0) {
+            throw new IllegalStateException();
+          }
+
+          if(modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+          }
+
+          // Always tombstone so that the slots still ahead of the cursor are not disturbed.
+          table[last] = TOMBSTONE;
+
+          tombstones++;
+          size--;
+          modCount++;
+
+          expectedModCount = modCount;
+          last = -1;
+        }
+
+      };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+      return new SlotSpliterator(0, -1, 0, 0);
+    }
+
+    // SlotSpliterator
+    //--------------------------------------------------
+
+    // Splits the table by slot range, as HashMap's key spliterator does; only the unsplit spliterator knows its exact size.
+    private final class SlotSpliterator implements Spliterator<T> {
+
+      // Constructors
+      //--------------------------------------------------
+
+      private SlotSpliterator(final int slot, final int fence, final int estimate, final int expectedModCount) {
+        super();
+
+        this.slot = slot;
+        this.fence = fence;
+        this.estimate = estimate;
+        this.expectedModCount = expectedModCount;
+      }
+
+      // Fields
+      //--------------------------------------------------
+
+      private int slot;
+
+      private int fence;
+
+      private int estimate;
+
+      private int expectedModCount;
+
+      // Methods
+      //--------------------------------------------------
+
+      private int getFence() {
+        if(fence < 0) {
+          estimate = size;
+          expectedModCount = modCount;
+          fence = table.length;
+        }
+
+        return fence;
+      }
+
+      // Spliterator methods
+      //--------------------------------------------------
+
+      @Override
+      public Spliterator<T> trySplit() {
+        final int high = getFence();
+        final int low = slot;
+        final int middle = (low + high) >>> 1;
+
+        return (low >= middle ? null : new SlotSpliterator(low, slot = middle, estimate >>>= 1, expectedModCount));
+      }
+
+      @Override
+      public boolean tryAdvance(final Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+
+        final int high = getFence();
+        final Object[] table = HashStorage.this.table;
+
+        while(slot < high) {
+          final Object key = table[slot++];
+
+          if(key != null && key != TOMBSTONE) {
+            action.accept(unmask(key));
+
+            if(modCount != expectedModCount) {
+              throw new ConcurrentModificationException();
+            }
+
+            return true;
+          }
+        }
+
+        return false;
+      }
+
+      @Override
+      public void forEachRemaining(final Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+
+        final int high = getFence();
+        final Object[] table = HashStorage.this.table;
+
+        for(int i = slot; i < high; i++) {
+          final Object key = table[i];
+
+          if(key != null && key != TOMBSTONE) {
+            action.accept(unmask(key));
+          }
+        }
+
+        slot = high;
+
+        if(modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+      }
+
+      @Override
+      public long estimateSize() {
+        getFence();
+
+        return estimate;
+      }
+
+      @Override
+      public int characteristics() {
+        return ((fence < 0 || estimate == size ? Spliterator.SIZED : 0) | Spliterator.DISTINCT);
+      }
+
+    }
+
+  }
+
+}
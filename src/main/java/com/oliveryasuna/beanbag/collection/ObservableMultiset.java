@@ -0,0 +1,546 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import com.oliveryasuna.beanbag.collection.event.MultisetCountChangedEvent;
+import com.oliveryasuna.beanbag.collection.jfr.BulkMutationEvent;
+import com.oliveryasuna.beanbag.collection.listener.MultisetCountChangedListener;
+import com.oliveryasuna.beanbag.collection.metrics.MutationType;
+import com.oliveryasuna.commons.language.pattern.registry.Registration;
+import org.apache.commons.lang3.event.EventListenerSupport;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+public final class ObservableMultiset<T> extends AbstractObservableCollection<T, Collection<T>, ObservableMultiset<T>> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public ObservableMultiset() {
+    this(new CountStorage<>(CountStorage.DEFAULT_EXPECTED_SIZE));
+  }
+
+  public ObservableMultiset(final int expectedDistinctSize) {
+    this(new CountStorage<>(expectedDistinctSize));
+  }
+
+  public ObservableMultiset(final Collection<? extends T> collection) {
+    this(new CountStorage<>(collection.size()));
+
+    storage.addAll(collection);
+  }
+
+  private ObservableMultiset(final CountStorage<T> storage) {
+    super(storage);
+
+    this.storage = storage;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final CountStorage<T> storage;
+
+  private boolean occurrenceEvents;
+
+  // Listener registries
+  //--------------------------------------------------
+
+  private final EventListenerSupport<MultisetCountChangedListener> countChangedListeners =
+      EventListenerSupport.create(MultisetCountChangedListener.class);
+
+  // Listener registration methods
+  //--------------------------------------------------
+
+  public Registration addCountChangedListener(final MultisetCountChangedListener<T> listener) {
+    countChangedListeners.addListener(listener);
+
+    return (() -> removeCountChangedListener(listener));
+  }
+
+  public void removeCountChangedListener(final MultisetCountChangedListener<T> listener) {
+    countChangedListeners.removeListener(listener);
+  }
+
+  // Listener dispatch methods
+  //--------------------------------------------------
+
+  private void fireCountChangedEvent(final T element, final int newCount, final int oldCount) {
+    final int delta = newCount - oldCount;
+
+    if(occurrenceEvents || Math.abs(delta) == 1) {
+      for(int i = 0; i < delta; i++) {
+        fireElementAddedEvent(element);
+      }
+
+      for(int i = 0; i > delta; i--) {
+        fireElementRemovedEvent(element);
+      }
+    } else {
+      // A coalesced count change has no per-occurrence entries to log, so readers of the change log must resync.
+      if(advanceVersion()) {
+        restartChangeLog();
+      }
+
+      countMutation((delta > 0 ? MutationType.ADDED : MutationType.REMOVED), Math.abs(delta));
+
+      elementObservers.fire().elementCountChanged(element, delta);
+    }
+
+    purgeWeakListeners();
+
+    final MultisetCountChangedEvent<T> event = new MultisetCountChangedEvent<>(element, newCount, oldCount, this);
+
+    if(!isDispatchInstrumented()) {
+      countChangedListeners.fire().countChanged(event);
+    } else {
+      fireInstrumented(MultisetCountChangedListener.class, countChangedListeners, listener -> listener.countChanged(event));
+    }
+  }
+
+  // Multiset methods
+  //--------------------------------------------------
+
+  public int count(final Object element) {
+    return storage.count(element);
+  }
+
+  public int add(final T element, final int occurrences) {
+    checkCount(occurrences);
+
+    final int oldCount = storage.count(element);
+
+    if(occurrences == 0) {
+      return oldCount;
+    }
+
+    if(occurrences > Integer.MAX_VALUE - oldCount) {
+      throw new IllegalArgumentException("Count would overflow.");
+    }
+
+    storage.setCount(element, oldCount + occurrences);
+
+    fireCountChangedEvent(element, oldCount + occurrences, oldCount);
+
+    return oldCount;
+  }
+
+  public int remove(final Object element, final int occurrences) {
+    checkCount(occurrences);
+
+    final CountStorage.Count<T> entry = storage.counts.get(element);
+
+    if(entry == null) {
+      return 0;
+    }
+
+    final int oldCount = entry.value;
+
+    if(occurrences == 0) {
+      return oldCount;
+    }
+
+    final int newCount = Math.max(0, oldCount - occurrences);
+
+    storage.setCount(entry.element, newCount);
+
+    fireCountChangedEvent(entry.element, newCount, oldCount);
+
+    return oldCount;
+  }
+
+  public int setCount(final T element, final int count) {
+    checkCount(count);
+
+    final int oldCount = storage.setCount(element, count);
+
+    if(oldCount != count) {
+      fireCountChangedEvent(element, count, oldCount);
+    }
+
+    return oldCount;
+  }
+
+  public Set<T> elementSet() {
+    return Collections.unmodifiableSet(storage.counts.keySet());
+  }
+
+  private static void checkCount(final int count) {
+    if(count < 0) {
+      throw new IllegalArgumentException("Count must not be negative.");
+    }
+  }
+
+  private boolean removeMatching(final String operation, final Predicate<? super T> filter) {
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
+
+    bulkEvent.begin();
+    beginBulkMutation();
+
+    try {
+      final List<T> elements = new ArrayList<>();
+      final List<Integer> counts = new ArrayList<>();
+
+      for(final Iterator<Map.Entry<T, CountStorage.Count<T>>> iterator = storage.counts.entrySet().iterator(); iterator.hasNext(); ) {
+        final Map.Entry<T, CountStorage.Count<T>> entry = iterator.next();
+
+        if(filter.test(entry.getKey())) {
+          elements.add(entry.getKey());
+          counts.add(entry.getValue().value);
+
+          storage.size -= entry.getValue().value;
+
+          iterator.remove();
+        }
+      }
+
+      for(int i = 0; i < elements.size(); i++) {
+        fireCountChangedEvent(elements.get(i), 0, counts.get(i));
+      }
+
+      bulkEvent.complete(this, operation, sizeBefore, size());
+
+      return !elements.isEmpty();
+    } finally {
+      endBulkMutation();
+    }
+  }
+
+  // Collection methods
+  //--------------------------------------------------
+
+  @Override
+  public int size() {
+    return (int)Math.min(storage.size, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return (storage.size == 0);
+  }
+
+  @Override
+  public boolean contains(final Object element) {
+    return storage.counts.containsKey(element);
+  }
+
+  @Override
+  public boolean add(final T element) {
+    add(element, 1);
+
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final Collection<? extends T> collection) {
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
+
+    bulkEvent.begin();
+    beginBulkMutation();
+
+    try {
+      // Fold repeated elements so that each distinct element changes count once.
+      final Map<T, int[]> occurrences = new LinkedHashMap<>();
+
+      for(final T element : collection) {
+        occurrences.computeIfAbsent(element, key -> new int[1])[0]++;
+      }
+
+      occurrences.forEach((element, count) -> add(element, count[0]));
+
+      bulkEvent.complete(this, "addAll", sizeBefore, size());
+
+      return !occurrences.isEmpty();
+    } finally {
+      endBulkMutation();
+    }
+  }
+
+  @Override
+  public boolean remove(final Object element) {
+    return (remove(element, 1) > 0);
+  }
+
+  @Override
+  public boolean removeAll(final Collection<?> collection) {
+    return removeMatching("removeAll", collection::contains);
+  }
+
+  @Override
+  public boolean removeIf(final Predicate<? super T> filter) {
+    return removeMatching("removeIf", filter);
+  }
+
+  @Override
+  public boolean retainAll(final Collection<?> collection) {
+    return removeMatching("retainAll", element -> !collection.contains(element));
+  }
+
+  @Override
+  public void clear() {
+    removeMatching("clear", element -> true);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new MultisetIterator();
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public boolean isOccurrenceEvents() {
+    return occurrenceEvents;
+  }
+
+  // Off by default: single-occurrence changes always fire element events, while a change of several occurrences fires one
+  // count-changed event, one elementCountChanged observer call and restarts the change log. When on, element listeners and
+  // the change log receive one event per added or removed occurrence instead, at O(n) cost.
+  public void setOccurrenceEvents(final boolean occurrenceEvents) {
+    this.occurrenceEvents = occurrenceEvents;
+  }
+
+  // MultisetIterator
+  //--------------------------------------------------
+
+  private final class MultisetIterator implements Iterator<T> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private MultisetIterator() {
+      super();
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final Iterator<T> iterator = storage.iterator();
+
+    private T lastElement;
+
+    // Iterator methods
+    //--------------------------------------------------
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public T next() {
+      return (lastElement = iterator.next());
+    }
+
+    @Override
+    public void remove() {
+      iterator.remove();
+
+      final int newCount = storage.count(lastElement);
+
+      fireCountChangedEvent(lastElement, newCount, newCount + 1);
+    }
+
+  }
+
+  // CountStorage
+  //--------------------------------------------------
+
+  private static final class CountStorage<T> extends AbstractCollection<T> {
+
+    // Static fields
+    //--------------------------------------------------
+
+    private static final int DEFAULT_EXPECTED_SIZE = 12;
+
+    // Constructors
+    //--------------------------------------------------
+
+    private CountStorage(final int expectedSize) {
+      super();
+
+      if(expectedSize < 0) {
+        throw new IllegalArgumentException("Expected size must not be negative.");
+      }
+
+      this.counts = new HashMap<>((int)Math.min(Integer.MAX_VALUE, expectedSize * 4L / 3 + 1));
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final Map<T, Count<T>> counts;
+
+    private long size;
+
+    // Methods
+    //--------------------------------------------------
+
+    private int count(final Object element) {
+      final Count<T> count = counts.get(element);
+
+      return (count == null ? 0 : count.value);
+    }
+
+    private int setCount(final T element, final int count) {
+      if(count == 0) {
+        final Count<T> removed = counts.remove(element);
+
+        if(removed == null) {
+          return 0;
+        }
+
+        size -= removed.value;
+
+        return removed.value;
+      }
+
+      final Count<T> existing = counts.get(element);
+
+      if(existing == null) {
+        final Count<T> created = new Count<>(element);
+
+        created.value = count;
+
+        counts.put(element, created);
+
+        size += count;
+
+        return 0;
+      }
+
+      final int oldCount = existing.value;
+
+      existing.value = count;
+
+      size += (count - oldCount);
+
+      return oldCount;
+    }
+
+    // Collection methods
+    //--------------------------------------------------
+
+    @Override
+    public int size() {
+      return (int)Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean contains(final Object element) {
+      return counts.containsKey(element);
+    }
+
+    @Override
+    public boolean add(final T element) {
+      final int count = count(element);
+
+      if(count == Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Count would overflow.");
+      }
+
+      setCount(element, count + 1);
+
+      return true;
+    }
+
+    @Override
+    public void clear() {
+      counts.clear();
+
+      size = 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return new Iterator<>() {
+
+        private final Iterator<Map.Entry<T, Count<T>>> entries = counts.entrySet().iterator();
+
+        private Map.Entry<T, Count<T>> entry;
+
+        private int remaining;
+
+        private boolean removable;
+
+        @Override
+        public boolean hasNext() {
+          return (remaining > 0 || entries.hasNext());
+        }
+
+        @Override
+        public T next() {
+          if(remaining == 0) {
+            entry = entries.next();
+            remaining = entry.getValue().value;
+          }
+
+          remaining--;
+          removable = true;
+
+          return entry.getKey();
+        }
+
+        @Override
+        public void remove() {
+          if(!removable) {
+            throw new IllegalStateException();
+          }
+
+          removable = false;
+
+          if(--entry.getValue().value == 0) {
+            entries.remove();
+          }
+
+          size--;
+        }
+
+      };
+    }
+
+    // Count
+    //--------------------------------------------------
+
+    private static final class Count<T> {
+
+      // Constructors
+      //--------------------------------------------------
+
+      private Count(final T element) {
+        super();
+
+        this.element = element;
+      }
+
+      // Fields
+      //--------------------------------------------------
+
+      private final T element;
+
+      private int value;
+
+    }
+
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntPredicate;
+
+final class ParallelScan extends RecursiveTask<int[]> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int MIN_CHUNK_SIZE = 4096;
+
+  // Static methods
+  //--------------------------------------------------
+
+  static int[] scan(final ForkJoinPool pool, final int size, final IntPredicate selector) {
+    final int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (pool.getParallelism() * 4));
+
+    return pool.invoke(new ParallelScan(selector, 0, size, chunkSize));
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private ParallelScan(final IntPredicate selector, final int from, final int to, final int chunkSize) {
+    super();
+
+    this.selector = selector;
+    this.from = from;
+    this.to = to;
+    this.chunkSize = chunkSize;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final IntPredicate selector;
+
+  private final int from;
+
+  private final int to;
+
+  private final int chunkSize;
+
+  // RecursiveTask methods
+  //--------------------------------------------------
+
+  @Override
+  protected int[] compute() {
+    if(to - from <= chunkSize) {
+      int[] selected = new int[16];
+      int count = 0;
+
+      for(int i = from; i < to; i++) {
+        if(selector.test(i)) {
+          if(count == selected.length) {
+            selected = Arrays.copyOf(selected, count << 1);
+          }
+
+          selected[count++] = i;
+        }
+      }
+
+      return Arrays.copyOf(selected, count);
+    }
+
+    final int middle = (from + to) >>> 1;
+
+    final ParallelScan left = new ParallelScan(selector, from, middle, chunkSize);
+    final ParallelScan right = new ParallelScan(selector, middle, to, chunkSize);
+
+    right.fork();
+
+    final int[] leftSelected = left.compute();
+    final int[] rightSelected = right.join();
+
+    final int[] merged = Arrays.copyOf(leftSelected, leftSelected.length + rightSelected.length);
+
+    System.arraycopy(rightSelected, 0, merged, leftSelected.length, rightSelected.length);
+
+    return merged;
+  }
+
+}
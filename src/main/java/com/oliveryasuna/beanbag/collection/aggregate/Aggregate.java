@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.aggregate;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableCollection;
+import com.oliveryasuna.beanbag.collection.listener.ElementObserver;
+import com.oliveryasuna.commons.language.pattern.registry.Registration;
+import org.apache.commons.lang3.event.EventListenerSupport;
+
+import java.util.Objects;
+
+public abstract class Aggregate<T, R> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected Aggregate(final AbstractObservableCollection<T, ?, ?> source) {
+    super();
+
+    this.source = source;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final AbstractObservableCollection<T, ?, ?> source;
+
+  private final ElementObserver<T> sourceObserver = new ElementObserver<>() {
+
+    @Override
+    public void elementAdded(final T element) {
+      added(element);
+      refresh();
+    }
+
+    @Override
+    public void elementRemoved(final T element) {
+      removed(element);
+      refresh();
+    }
+
+    @Override
+    public void elementChanged(final T newElement, final T oldElement) {
+      removed(oldElement);
+      added(newElement);
+      refresh();
+    }
+
+    @Override
+    public void elementCountChanged(final T element, final int delta) {
+      for(int i = 0; i < delta; i++) {
+        added(element);
+      }
+
+      for(int i = 0; i > delta; i--) {
+        removed(element);
+      }
+
+      refresh();
+    }
+
+  };
+
+  private R value;
+
+  // Listener registries
+  //--------------------------------------------------
+
+  protected final EventListenerSupport<AggregateChangedListener> valueChangedListeners =
+      EventListenerSupport.create(AggregateChangedListener.class);
+
+  // Listener registration methods
+  //--------------------------------------------------
+
+  public Registration addValueChangedListener(final AggregateChangedListener<T, R> listener) {
+    valueChangedListeners.addListener(listener);
+
+    return (() -> removeValueChangedListener(listener));
+  }
+
+  public void removeValueChangedListener(final AggregateChangedListener<T, R> listener) {
+    valueChangedListeners.removeListener(listener);
+  }
+
+  // Listener dispatch methods
+  //--------------------------------------------------
+
+  protected void fireValueChangedEvent(final R newValue, final R oldValue) {
+    valueChangedListeners.fire().valueChanged(new AggregateChangedEvent<>(newValue, oldValue, this));
+  }
+
+  // Methods
+  //--------------------------------------------------
+
+  protected final void attach() {
+    source.forEach(this::added);
+
+    value = compute();
+
+    source.addElementObserver(sourceObserver);
+  }
+
+  public void detach() {
+    source.removeElementObserver(sourceObserver);
+  }
+
+  protected abstract void added(T element);
+
+  protected abstract void removed(T element);
+
+  protected abstract R compute();
+
+  private void refresh() {
+    final R oldValue = value;
+    final R newValue = compute();
+
+    value = newValue;
+
+    if(!Objects.equals(newValue, oldValue)) {
+      fireValueChangedEvent(newValue, oldValue);
+    }
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public AbstractObservableCollection<T, ?, ?> getSource() {
+    return source;
+  }
+
+  public R getValue() {
+    return value;
+  }
+
+}
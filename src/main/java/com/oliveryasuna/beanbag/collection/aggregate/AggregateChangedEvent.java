@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.aggregate;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.EventObject;
+
+public class AggregateChangedEvent<T, R> extends EventObject {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public AggregateChangedEvent(final R newValue, final R oldValue, final Aggregate<T, R> source) {
+    super(source);
+
+    this.newValue = newValue;
+    this.oldValue = oldValue;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final R newValue;
+
+  private final R oldValue;
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  @Override
+  public Aggregate<T, R> getSource() {
+    return (Aggregate<T, R>)super.getSource();
+  }
+
+  public R getNewValue() {
+    return newValue;
+  }
+
+  public R getOldValue() {
+    return oldValue;
+  }
+
+  // Object methods
+  //--------------------------------------------------
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(other == null || getClass() != other.getClass()) return false;
+
+    final AggregateChangedEvent<?, ?> otherCasted = (AggregateChangedEvent<?, ?>)other;
+
+    return new EqualsBuilder()
+        .append(getSource(), otherCasted.getSource())
+        .append(getNewValue(), otherCasted.getNewValue())
+        .append(getOldValue(), otherCasted.getOldValue())
+        .isEquals();
+  }
+
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder(17, 37)
+        .append(getSource())
+        .append(getNewValue())
+        .append(getOldValue())
+        .toHashCode();
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("newValue", getNewValue())
+        .append("oldValue", getOldValue())
+        .toString();
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.aggregate;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableCollection;
+import com.oliveryasuna.commons.language.exception.UtilityClassException;
+
+import java.util.Comparator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+public final class Aggregates {
+
+  // Methods
+  //--------------------------------------------------
+
+  public static <T> CountAggregate<T> count(final AbstractObservableCollection<T, ?, ?> source) {
+    return new CountAggregate<>(source);
+  }
+
+  public static <T> LongSumAggregate<T> sumLong(final AbstractObservableCollection<T, ?, ?> source, final ToLongFunction<? super T> mapper) {
+    return new LongSumAggregate<>(source, mapper);
+  }
+
+  public static <T> DoubleSumAggregate<T> sumDouble(final AbstractObservableCollection<T, ?, ?> source, final ToDoubleFunction<? super T> mapper) {
+    return new DoubleSumAggregate<>(source, mapper);
+  }
+
+  public static <T> AverageAggregate<T> average(final AbstractObservableCollection<T, ?, ?> source, final ToDoubleFunction<? super T> mapper) {
+    return new AverageAggregate<>(source, mapper);
+  }
+
+  public static <T> ExtremeAggregate<T> min(final AbstractObservableCollection<T, ?, ?> source, final Comparator<? super T> comparator) {
+    return new ExtremeAggregate<>(source, comparator);
+  }
+
+  public static <T> ExtremeAggregate<T> max(final AbstractObservableCollection<T, ?, ?> source, final Comparator<? super T> comparator) {
+    return new ExtremeAggregate<>(source, comparator.reversed());
+  }
+
+  public static <T extends Comparable<? super T>> ExtremeAggregate<T> min(final AbstractObservableCollection<T, ?, ?> source) {
+    return min(source, Comparator.naturalOrder());
+  }
+
+  public static <T extends Comparable<? super T>> ExtremeAggregate<T> max(final AbstractObservableCollection<T, ?, ?> source) {
+    return max(source, Comparator.naturalOrder());
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private Aggregates() {
+    super();
+
+    throw new UtilityClassException();
+  }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.aggregate;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableCollection;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class ExtremeAggregate<T> extends Aggregate<T, T> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public ExtremeAggregate(final AbstractObservableCollection<T, ?, ?> source, final Comparator<? super T> comparator) {
+    super(source);
+
+    this.instances = new TreeMap<>(comparator);
+
+    attach();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  // Elements that compare equal share a key, so each key keeps its live instances rather than a count.
+  private final TreeMap<T, Deque<T>> instances;
+
+  // Aggregate methods
+  //--------------------------------------------------
+
+  @Override
+  protected void added(final T element) {
+    instances.computeIfAbsent(element, key -> new ArrayDeque<>(2)).addLast(element);
+  }
+
+  @Override
+  protected void removed(final T element) {
+    final Deque<T> live = instances.get(element);
+
+    if(live == null) {
+      return;
+    }
+
+    if(!removeIdentical(live, element)) {
+      live.removeFirstOccurrence(element);
+    }
+
+    if(live.isEmpty()) {
+      instances.remove(element);
+    }
+  }
+
+  @Override
+  protected T compute() {
+    final Map.Entry<T, Deque<T>> first = instances.firstEntry();
+
+    return (first != null ? first.getValue().peekFirst() : null);
+  }
+
+  private static <T> boolean removeIdentical(final Deque<T> live, final T element) {
+    for(final Iterator<T> iterator = live.iterator(); iterator.hasNext(); ) {
+      if(iterator.next() == element) {
+        iterator.remove();
+
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+}
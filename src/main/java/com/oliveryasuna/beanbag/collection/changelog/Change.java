@@ -0,0 +1,201 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.changelog;
+
+import com.oliveryasuna.beanbag.collection.metrics.MutationType;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class Change<T> {
+
+  // Static methods
+  //--------------------------------------------------
+
+  public static <T> Change<T> added(final T element, final int index) {
+    return new Change<>(MutationType.ADDED, element, null, index, index, null);
+  }
+
+  public static <T> Change<T> removed(final T element, final int index) {
+    return new Change<>(MutationType.REMOVED, null, element, index, index, null);
+  }
+
+  public static <T> Change<T> changed(final T newElement, final T oldElement, final int index) {
+    return new Change<>(MutationType.CHANGED, newElement, oldElement, index, index, null);
+  }
+
+  public static <T> Change<T> moved(final T element, final int fromIndex, final int toIndex) {
+    return new Change<>(MutationType.MOVED, element, element, fromIndex, toIndex, null);
+  }
+
+  public static <T> Change<T> permuted(final int[] permutation) {
+    return new Change<>(MutationType.PERMUTED, null, null, -1, -1, permutation.clone());
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private Change(final MutationType type, final T newElement, final T oldElement, final int index, final int toIndex, final int[] permutation) {
+    super();
+
+    this.type = type;
+    this.newElement = newElement;
+    this.oldElement = oldElement;
+    this.index = index;
+    this.toIndex = toIndex;
+    this.permutation = permutation;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final MutationType type;
+
+  private final T newElement;
+
+  private final T oldElement;
+
+  private final int index;
+
+  private final int toIndex;
+
+  private final int[] permutation;
+
+  // Methods
+  //--------------------------------------------------
+
+  public Change<T> inverse() {
+    switch(type) {
+      case ADDED:
+        return removed(newElement, index);
+      case REMOVED:
+        return added(oldElement, index);
+      case CHANGED:
+        return changed(oldElement, newElement, index);
+      case MOVED:
+        return moved(newElement, toIndex, index);
+      default:
+        final int[] inverse = new int[permutation.length];
+
+        for(int i = 0; i < permutation.length; i++) {
+          inverse[permutation[i]] = i;
+        }
+
+        return new Change<>(MutationType.PERMUTED, null, null, -1, -1, inverse);
+    }
+  }
+
+  public void applyTo(final List<T> list) {
+    switch(type) {
+      case ADDED:
+        list.add(index, newElement);
+        break;
+      case REMOVED:
+        list.remove(index);
+        break;
+      case CHANGED:
+        list.set(index, newElement);
+        break;
+      case MOVED:
+        list.add(toIndex, list.remove(index));
+        break;
+      case PERMUTED:
+        final List<T> before = new ArrayList<>(list);
+
+        for(int i = 0; i < permutation.length; i++) {
+          list.set(permutation[i], before.get(i));
+        }
+        break;
+    }
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public MutationType getType() {
+    return type;
+  }
+
+  public T getNewElement() {
+    return newElement;
+  }
+
+  public T getOldElement() {
+    return oldElement;
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public int getToIndex() {
+    return toIndex;
+  }
+
+  public int[] getPermutation() {
+    return (permutation == null ? null : permutation.clone());
+  }
+
+  // Object methods
+  //--------------------------------------------------
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(other == null || getClass() != other.getClass()) return false;
+
+    final Change<?> otherCasted = (Change<?>)other;
+
+    return new EqualsBuilder()
+        .append(getType(), otherCasted.getType())
+        .append(getNewElement(), otherCasted.getNewElement())
+        .append(getOldElement(), otherCasted.getOldElement())
+        .append(getIndex(), otherCasted.getIndex())
+        .append(getToIndex(), otherCasted.getToIndex())
+        .append(permutation, otherCasted.permutation)
+        .isEquals();
+  }
+
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder(17, 37)
+        .append(getType())
+        .append(getNewElement())
+        .append(getOldElement())
+        .append(getIndex())
+        .append(getToIndex())
+        .append(permutation)
+        .toHashCode();
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("type", getType())
+        .append("newElement", getNewElement())
+        .append("oldElement", getOldElement())
+        .append("index", getIndex())
+        .append("toIndex", getToIndex())
+        .toString();
+  }
+
+}
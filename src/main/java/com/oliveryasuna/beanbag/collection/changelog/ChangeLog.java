@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.changelog;
+
+import com.oliveryasuna.beanbag.collection.metrics.MutationType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class ChangeLog<T> {
+
+  // Static methods
+  //--------------------------------------------------
+
+  private static <T> List<Change<T>> compact(final List<Change<T>> changes) {
+    final List<Change<T>> compacted = new ArrayList<>(changes.size());
+
+    for(final Change<T> change : changes) {
+      final int last = compacted.size() - 1;
+
+      if(last < 0) {
+        compacted.add(change);
+        continue;
+      }
+
+      final Change<T> previous = compacted.get(last);
+      final Change<T> merged = merge(previous, change);
+
+      if(merged == previous) {
+        compacted.add(change);
+      } else if(merged == null) {
+        compacted.remove(last);
+      } else {
+        compacted.set(last, merged);
+      }
+    }
+
+    return compacted;
+  }
+
+  // Returns previous when the pair cannot be merged, null when the pair cancels out, and the merged change otherwise.
+  private static <T> Change<T> merge(final Change<T> previous, final Change<T> next) {
+    if(previous.getIndex() != next.getIndex() && next.getType() != MutationType.MOVED) {
+      return previous;
+    }
+
+    switch(previous.getType()) {
+      case ADDED:
+        if(next.getType() == MutationType.REMOVED && next.getOldElement() == previous.getNewElement()) {
+          return null;
+        } else if(next.getType() == MutationType.CHANGED && next.getOldElement() == previous.getNewElement()) {
+          return Change.added(next.getNewElement(), previous.getIndex());
+        }
+        break;
+      case REMOVED:
+        if(next.getType() == MutationType.ADDED && next.getNewElement() == previous.getOldElement()) {
+          return null;
+        }
+        break;
+      case CHANGED:
+        if(next.getType() == MutationType.CHANGED && next.getOldElement() == previous.getNewElement()) {
+          return (next.getNewElement() == previous.getOldElement() ? null
+              : Change.changed(next.getNewElement(), previous.getOldElement(), previous.getIndex()));
+        } else if(next.getType() == MutationType.REMOVED && next.getOldElement() == previous.getNewElement()) {
+          return Change.removed(previous.getOldElement(), previous.getIndex());
+        }
+        break;
+      case MOVED:
+        if(next.getType() == MutationType.MOVED && next.getNewElement() == previous.getNewElement()
+            && next.getIndex() == previous.getToIndex() && next.getToIndex() == previous.getIndex()) {
+          return null;
+        }
+        break;
+      default:
+        break;
+    }
+
+    return previous;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  public ChangeLog(final int capacity, final long version) {
+    super();
+
+    if(capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive.");
+    }
+
+    this.entries = new Change[capacity];
+    this.latestVersion = version;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Change<T>[] entries;
+
+  private int head;
+
+  private int count;
+
+  private long latestVersion;
+
+  // Methods
+  //--------------------------------------------------
+
+  public void append(final long version, final Change<T> change) {
+    if(version != latestVersion + 1) {
+      throw new IllegalArgumentException("Versions must be consecutive.");
+    }
+
+    if(count < entries.length) {
+      entries[(head + count) % entries.length] = change;
+
+      count++;
+    } else {
+      entries[head] = change;
+
+      head = (head + 1) % entries.length;
+    }
+
+    latestVersion = version;
+  }
+
+  public Delta<T> changesSince(final long version) {
+    if(version > latestVersion) {
+      throw new IllegalArgumentException("Version is ahead of the log.");
+    }
+
+    if(version < getOldestVersion()) {
+      return Delta.resync(version, latestVersion);
+    }
+
+    final int missed = (int)(latestVersion - version);
+    final List<Change<T>> changes = new ArrayList<>(missed);
+
+    for(int i = count - missed; i < count; i++) {
+      changes.add(entries[(head + i) % entries.length]);
+    }
+
+    return Delta.of(version, latestVersion, compact(changes));
+  }
+
+  public void clear() {
+    Arrays.fill(entries, null);
+
+    head = 0;
+    count = 0;
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public int getCapacity() {
+    return entries.length;
+  }
+
+  public int size() {
+    return count;
+  }
+
+  public long getOldestVersion() {
+    return (latestVersion - count);
+  }
+
+  public long getLatestVersion() {
+    return latestVersion;
+  }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.changelog;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class Delta<T> {
+
+  // Static methods
+  //--------------------------------------------------
+
+  public static <T> Delta<T> of(final long fromVersion, final long toVersion, final List<Change<T>> changes) {
+    return new Delta<>(fromVersion, toVersion, Collections.unmodifiableList(changes), false);
+  }
+
+  public static <T> Delta<T> resync(final long fromVersion, final long toVersion) {
+    return new Delta<>(fromVersion, toVersion, Collections.emptyList(), true);
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private Delta(final long fromVersion, final long toVersion, final List<Change<T>> changes, final boolean resyncRequired) {
+    super();
+
+    this.fromVersion = fromVersion;
+    this.toVersion = toVersion;
+    this.changes = changes;
+    this.resyncRequired = resyncRequired;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final long fromVersion;
+
+  private final long toVersion;
+
+  private final List<Change<T>> changes;
+
+  private final boolean resyncRequired;
+
+  // Methods
+  //--------------------------------------------------
+
+  public void applyTo(final List<T> list) {
+    if(resyncRequired) {
+      throw new IllegalStateException("Delta requires a resync.");
+    }
+
+    for(final Change<T> change : changes) {
+      change.applyTo(list);
+    }
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public long getFromVersion() {
+    return fromVersion;
+  }
+
+  public long getToVersion() {
+    return toVersion;
+  }
+
+  public List<Change<T>> getChanges() {
+    return changes;
+  }
+
+  public boolean isResyncRequired() {
+    return resyncRequired;
+  }
+
+  public boolean isEmpty() {
+    return (!resyncRequired && changes.isEmpty());
+  }
+
+  // Object methods
+  //--------------------------------------------------
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(other == null || getClass() != other.getClass()) return false;
+
+    final Delta<?> otherCasted = (Delta<?>)other;
+
+    return new EqualsBuilder()
+        .append(getFromVersion(), otherCasted.getFromVersion())
+        .append(getToVersion(), otherCasted.getToVersion())
+        .append(getChanges(), otherCasted.getChanges())
+        .append(isResyncRequired(), otherCasted.isResyncRequired())
+        .isEquals();
+  }
+
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder(17, 37)
+        .append(getFromVersion())
+        .append(getToVersion())
+        .append(getChanges())
+        .append(isResyncRequired())
+        .toHashCode();
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("fromVersion", getFromVersion())
+        .append("toVersion", getToVersion())
+        .append("changes", getChanges())
+        .append("resyncRequired", isResyncRequired())
+        .toString();
+  }
+
+}
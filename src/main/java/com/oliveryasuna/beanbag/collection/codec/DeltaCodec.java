@@ -0,0 +1,384 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.codec;
+
+import com.oliveryasuna.beanbag.collection.changelog.Change;
+import com.oliveryasuna.beanbag.collection.changelog.Delta;
+import com.oliveryasuna.beanbag.collection.metrics.MutationType;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class DeltaCodec<T> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final byte FORMAT = 1;
+
+  private static final byte FLAG_RESYNC = 1;
+
+  private static final MutationType[] TYPES = MutationType.values();
+
+  // Static methods
+  //--------------------------------------------------
+
+  // Length of the run of changes starting at start that share a type and cover a contiguous index range.
+  private static int runLength(final List<? extends Change<?>> changes, final int start) {
+    final Change<?> first = changes.get(start);
+    final MutationType type = first.getType();
+
+    if(type == MutationType.MOVED || type == MutationType.PERMUTED) {
+      return 1;
+    }
+
+    int length = 1;
+
+    while(start + length < changes.size()) {
+      final Change<?> next = changes.get(start + length);
+
+      if(next.getType() != type) {
+        break;
+      }
+
+      final int expectedIndex;
+
+      if(first.getIndex() < 0) {
+        expectedIndex = -1;
+      } else if(type == MutationType.REMOVED) {
+        expectedIndex = first.getIndex();
+      } else {
+        expectedIndex = first.getIndex() + length;
+      }
+
+      if(next.getIndex() != expectedIndex) {
+        break;
+      }
+
+      length++;
+    }
+
+    return length;
+  }
+
+  private static int[] readPermutation(final ByteBuffer frame) {
+    final int[] permutation = new int[Varints.readInt(frame)];
+
+    for(int i = 0; i < permutation.length; i++) {
+      permutation[i] = Varints.readInt(frame);
+    }
+
+    return permutation;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  public DeltaCodec(final ElementCodec<T> elementCodec) {
+    super();
+
+    this.elementCodec = elementCodec;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final ElementCodec<T> elementCodec;
+
+  // Encoding
+  //--------------------------------------------------
+
+  public int encodedSize(final Delta<T> delta) {
+    final List<Change<T>> changes = delta.getChanges();
+
+    int size = 2 + Varints.sizeOf(delta.getFromVersion()) + Varints.sizeOf(delta.getToVersion());
+    int runs = 0;
+
+    for(int start = 0; start < changes.size(); ) {
+      final int length = runLength(changes, start);
+      final Change<T> first = changes.get(start);
+
+      size += 1 + Varints.sizeOfSigned(first.getIndex()) + Varints.sizeOf(length);
+
+      switch(first.getType()) {
+        case ADDED:
+        case CHANGED:
+          for(int i = start; i < start + length; i++) {
+            size += elementCodec.encodedSize(changes.get(i).getNewElement());
+          }
+          break;
+        case REMOVED:
+          if(first.getIndex() < 0) {
+            for(int i = start; i < start + length; i++) {
+              size += elementCodec.encodedSize(changes.get(i).getOldElement());
+            }
+          }
+          break;
+        case MOVED:
+          size += Varints.sizeOfSigned(first.getToIndex());
+          break;
+        case PERMUTED:
+          size += Varints.sizeOf(first.getPermutation().length);
+
+          for(final int target : first.getPermutation()) {
+            size += Varints.sizeOf(target);
+          }
+          break;
+      }
+
+      runs++;
+      start += length;
+    }
+
+    return (size + Varints.sizeOf(runs));
+  }
+
+  public ByteBuffer encode(final Delta<T> delta) {
+    final ByteBuffer buffer = ByteBuffer.allocate(encodedSize(delta));
+
+    encode(delta, buffer);
+
+    return buffer.flip();
+  }
+
+  public void encode(final Delta<T> delta, final ByteBuffer buffer) {
+    final List<Change<T>> changes = delta.getChanges();
+
+    int runs = 0;
+
+    for(int start = 0; start < changes.size(); start += runLength(changes, start)) {
+      runs++;
+    }
+
+    buffer.put(FORMAT);
+    buffer.put(delta.isResyncRequired() ? FLAG_RESYNC : 0);
+
+    Varints.write(buffer, delta.getFromVersion());
+    Varints.write(buffer, delta.getToVersion());
+    Varints.write(buffer, runs);
+
+    for(int start = 0; start < changes.size(); ) {
+      final int length = runLength(changes, start);
+      final Change<T> first = changes.get(start);
+
+      buffer.put((byte)first.getType().ordinal());
+
+      Varints.writeSigned(buffer, first.getIndex());
+
+      switch(first.getType()) {
+        case ADDED:
+        case CHANGED:
+          Varints.write(buffer, length);
+
+          for(int i = start; i < start + length; i++) {
+            elementCodec.encode(changes.get(i).getNewElement(), buffer);
+          }
+          break;
+        case REMOVED:
+          Varints.write(buffer, length);
+
+          if(first.getIndex() < 0) {
+            for(int i = start; i < start + length; i++) {
+              elementCodec.encode(changes.get(i).getOldElement(), buffer);
+            }
+          }
+          break;
+        case MOVED:
+          Varints.write(buffer, 1);
+          Varints.writeSigned(buffer, first.getToIndex());
+          break;
+        case PERMUTED:
+          final int[] permutation = first.getPermutation();
+
+          Varints.write(buffer, 1);
+          Varints.write(buffer, permutation.length);
+
+          for(final int target : permutation) {
+            Varints.write(buffer, target);
+          }
+          break;
+      }
+
+      start += length;
+    }
+  }
+
+  // Decoding
+  //--------------------------------------------------
+
+  public Delta<T> decode(final ByteBuffer frame) {
+    final boolean resync = readHeader(frame);
+    final long fromVersion = Varints.read(frame);
+    final long toVersion = Varints.read(frame);
+    final int runs = Varints.readInt(frame);
+
+    if(resync) {
+      return Delta.resync(fromVersion, toVersion);
+    }
+
+    final List<Change<T>> changes = new ArrayList<>(runs);
+
+    for(int run = 0; run < runs; run++) {
+      final MutationType type = TYPES[frame.get()];
+      final int index = Varints.readSignedInt(frame);
+      final int length = Varints.readInt(frame);
+
+      for(int i = 0; i < length; i++) {
+        final int elementIndex = (index < 0 ? -1 : index + i);
+
+        switch(type) {
+          case ADDED:
+            changes.add(Change.added(elementCodec.decode(frame), elementIndex));
+            break;
+          case CHANGED:
+            changes.add(Change.changed(elementCodec.decode(frame), null, elementIndex));
+            break;
+          case REMOVED:
+            changes.add(Change.removed(index < 0 ? elementCodec.decode(frame) : null, index));
+            break;
+          case MOVED:
+            changes.add(Change.moved(null, index, Varints.readSignedInt(frame)));
+            break;
+          case PERMUTED:
+            changes.add(Change.permuted(readPermutation(frame)));
+            break;
+        }
+      }
+    }
+
+    return Delta.of(fromVersion, toVersion, changes);
+  }
+
+  public long peekFromVersion(final ByteBuffer frame) {
+    final ByteBuffer header = frame.duplicate();
+
+    readHeader(header);
+
+    return Varints.read(header);
+  }
+
+  public long apply(final ByteBuffer frame, final List<T> replica) {
+    final long toVersion = readApplicableHeader(frame);
+    final int runs = Varints.readInt(frame);
+
+    for(int run = 0; run < runs; run++) {
+      final MutationType type = TYPES[frame.get()];
+      final int index = Varints.readSignedInt(frame);
+      final int length = Varints.readInt(frame);
+
+      if(index < 0 && type != MutationType.PERMUTED) {
+        throw new IllegalArgumentException("Frame contains unpositioned changes.");
+      }
+
+      switch(type) {
+        case ADDED:
+          if(length == 1) {
+            replica.add(index, elementCodec.decode(frame));
+          } else {
+            final List<T> elements = new ArrayList<>(length);
+
+            for(int i = 0; i < length; i++) {
+              elements.add(elementCodec.decode(frame));
+            }
+
+            replica.addAll(index, elements);
+          }
+          break;
+        case REMOVED:
+          for(int i = 0; i < length; i++) {
+            replica.remove(index);
+          }
+          break;
+        case CHANGED:
+          for(int i = 0; i < length; i++) {
+            replica.set(index + i, elementCodec.decode(frame));
+          }
+          break;
+        case MOVED:
+          final int toIndex = Varints.readSignedInt(frame);
+
+          replica.add(toIndex, replica.remove(index));
+          break;
+        case PERMUTED:
+          final int[] permutation = readPermutation(frame);
+          final List<T> before = new ArrayList<>(replica);
+
+          for(int i = 0; i < permutation.length; i++) {
+            replica.set(permutation[i], before.get(i));
+          }
+          break;
+      }
+    }
+
+    return toVersion;
+  }
+
+  public long apply(final ByteBuffer frame, final Collection<T> replica) {
+    final long toVersion = readApplicableHeader(frame);
+    final int runs = Varints.readInt(frame);
+
+    for(int run = 0; run < runs; run++) {
+      final MutationType type = TYPES[frame.get()];
+      final int index = Varints.readSignedInt(frame);
+      final int length = Varints.readInt(frame);
+
+      if(index >= 0 || (type != MutationType.ADDED && type != MutationType.REMOVED)) {
+        throw new IllegalArgumentException("Frame contains positional changes.");
+      }
+
+      for(int i = 0; i < length; i++) {
+        if(type == MutationType.ADDED) {
+          replica.add(elementCodec.decode(frame));
+        } else {
+          replica.remove(elementCodec.decode(frame));
+        }
+      }
+    }
+
+    return toVersion;
+  }
+
+  private boolean readHeader(final ByteBuffer frame) {
+    if(frame.get() != FORMAT) {
+      throw new IllegalArgumentException("Unsupported frame format.");
+    }
+
+    return ((frame.get() & FLAG_RESYNC) != 0);
+  }
+
+  private long readApplicableHeader(final ByteBuffer frame) {
+    if(readHeader(frame)) {
+      throw new IllegalStateException("Frame requires a full resync.");
+    }
+
+    Varints.read(frame);
+
+    return Varints.read(frame);
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public ElementCodec<T> getElementCodec() {
+    return elementCodec;
+  }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.codec;
+
+import com.oliveryasuna.commons.language.exception.UtilityClassException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class ElementCodecs {
+
+  // Static fields
+  //--------------------------------------------------
+
+  public static final ElementCodec<Integer> INTEGER = new ElementCodec<>() {
+
+    @Override
+    public int encodedSize(final Integer element) {
+      return Varints.sizeOfSigned(element);
+    }
+
+    @Override
+    public void encode(final Integer element, final ByteBuffer buffer) {
+      Varints.writeSigned(buffer, element);
+    }
+
+    @Override
+    public Integer decode(final ByteBuffer buffer) {
+      return Varints.readSignedInt(buffer);
+    }
+
+  };
+
+  public static final ElementCodec<Long> LONG = new ElementCodec<>() {
+
+    @Override
+    public int encodedSize(final Long element) {
+      return Varints.sizeOfSigned(element);
+    }
+
+    @Override
+    public void encode(final Long element, final ByteBuffer buffer) {
+      Varints.writeSigned(buffer, element);
+    }
+
+    @Override
+    public Long decode(final ByteBuffer buffer) {
+      return Varints.readSigned(buffer);
+    }
+
+  };
+
+  public static final ElementCodec<String> STRING = new ElementCodec<>() {
+
+    @Override
+    public int encodedSize(final String element) {
+      final int length = utf8Length(element);
+
+      return (Varints.sizeOf(length) + length);
+    }
+
+    @Override
+    public void encode(final String element, final ByteBuffer buffer) {
+      final byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+
+      Varints.write(buffer, bytes.length);
+
+      buffer.put(bytes);
+    }
+
+    @Override
+    public String decode(final ByteBuffer buffer) {
+      final int length = Varints.readInt(buffer);
+
+      if(buffer.hasArray()) {
+        final String element = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+
+        buffer.position(buffer.position() + length);
+
+        return element;
+      }
+
+      final byte[] bytes = new byte[length];
+
+      buffer.get(bytes);
+
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+  };
+
+  // Methods
+  //--------------------------------------------------
+
+  public static <T> ElementCodec<T> nullable(final ElementCodec<T> codec) {
+    return new ElementCodec<>() {
+
+      @Override
+      public int encodedSize(final T element) {
+        return (element == null ? 1 : 1 + codec.encodedSize(element));
+      }
+
+      @Override
+      public void encode(final T element, final ByteBuffer buffer) {
+        if(element == null) {
+          buffer.put((byte)0);
+        } else {
+          buffer.put((byte)1);
+
+          codec.encode(element, buffer);
+        }
+      }
+
+      @Override
+      public T decode(final ByteBuffer buffer) {
+        return (buffer.get() == 0 ? null : codec.decode(buffer));
+      }
+
+    };
+  }
+
+  private static int utf8Length(final String string) {
+    int length = 0;
+
+    for(int i = 0; i < string.length(); i++) {
+      final char c = string.charAt(i);
+
+      if(c < 0x80) {
+        length++;
+      } else if(c < 0x800) {
+        length += 2;
+      } else if(Character.isHighSurrogate(c) && i + 1 < string.length() && Character.isLowSurrogate(string.charAt(i + 1))) {
+        length += 4;
+        i++;
+      } else if(Character.isSurrogate(c)) {
+        // Unpaired surrogates are replaced by a single '?'.
+        length++;
+      } else {
+        length += 3;
+      }
+    }
+
+    return length;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private ElementCodecs() {
+    super();
+
+    throw new UtilityClassException();
+  }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.codec;
+
+import com.oliveryasuna.commons.language.exception.UtilityClassException;
+
+import java.nio.ByteBuffer;
+
+final class Varints {
+
+  // Methods
+  //--------------------------------------------------
+
+  static int sizeOf(final long value) {
+    return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 6) / 7);
+  }
+
+  static int sizeOfSigned(final long value) {
+    return sizeOf(zigZag(value));
+  }
+
+  static void write(final ByteBuffer buffer, long value) {
+    while((value & ~0x7FL) != 0L) {
+      buffer.put((byte)((value & 0x7F) | 0x80));
+
+      value >>>= 7;
+    }
+
+    buffer.put((byte)value);
+  }
+
+  static void writeSigned(final ByteBuffer buffer, final long value) {
+    write(buffer, zigZag(value));
+  }
+
+  static long read(final ByteBuffer buffer) {
+    long value = 0L;
+
+    for(int shift = 0; shift < 64; shift += 7) {
+      final byte b = buffer.get();
+
+      value |= (long)(b & 0x7F) << shift;
+
+      if(b >= 0) {
+        return value;
+      }
+    }
+
+    throw new IllegalArgumentException("Malformed varint.");
+  }
+
+  static long readSigned(final ByteBuffer buffer) {
+    final long value = read(buffer);
+
+    return ((value >>> 1) ^ -(value & 1L));
+  }
+
+  static int readInt(final ByteBuffer buffer) {
+    return Math.toIntExact(read(buffer));
+  }
+
+  static int readSignedInt(final ByteBuffer buffer) {
+    return Math.toIntExact(readSigned(buffer));
+  }
+
+  private static long zigZag(final long value) {
+    return ((value << 1) ^ (value >> 63));
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private Varints() {
+    super();
+
+    throw new UtilityClassException();
+  }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.crdt;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public final class CausalContext {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public CausalContext() {
+    super();
+  }
+
+  public CausalContext(final Map<String, Long> vector, final Collection<Dot> cloud) {
+    this();
+
+    this.vector.putAll(vector);
+
+    cloud.forEach(this::add);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  // Highest counter per replica below which every dot has been seen.
+  private final Map<String, Long> vector = new HashMap<>();
+
+  // Seen dots that are not yet contiguous with the vector.
+  private final Set<Dot> cloud = new HashSet<>();
+
+  // Methods
+  //--------------------------------------------------
+
+  public boolean contains(final Dot dot) {
+    final Long max = vector.get(dot.getReplicaId());
+
+    return ((max != null && dot.getCounter() <= max) || (!cloud.isEmpty() && cloud.contains(dot)));
+  }
+
+  public void add(final Dot dot) {
+    final long max = vector.getOrDefault(dot.getReplicaId(), 0L);
+
+    if(dot.getCounter() == max + 1L) {
+      vector.put(dot.getReplicaId(), compact(dot.getReplicaId(), dot.getCounter()));
+    } else if(dot.getCounter() > max) {
+      cloud.add(dot);
+    }
+  }
+
+  public void join(final CausalContext other) {
+    for(final Map.Entry<String, Long> entry : other.vector.entrySet()) {
+      final long max = Math.max(vector.getOrDefault(entry.getKey(), 0L), entry.getValue());
+
+      vector.put(entry.getKey(), compact(entry.getKey(), max));
+    }
+
+    other.cloud.forEach(this::add);
+
+    if(!cloud.isEmpty()) {
+      // Drop cloud dots the vector has caught up with.
+      final Iterator<Dot> iterator = cloud.iterator();
+
+      while(iterator.hasNext()) {
+        final Dot dot = iterator.next();
+
+        if(dot.getCounter() <= vector.getOrDefault(dot.getReplicaId(), 0L)) {
+          iterator.remove();
+        }
+      }
+    }
+  }
+
+  public long max(final String replicaId) {
+    long max = vector.getOrDefault(replicaId, 0L);
+
+    for(final Dot dot : cloud) {
+      if(dot.getReplicaId().equals(replicaId)) {
+        max = Math.max(max, dot.getCounter());
+      }
+    }
+
+    return max;
+  }
+
+  public long dotCount() {
+    long count = cloud.size();
+
+    for(final long max : vector.values()) {
+      count += max;
+    }
+
+    return count;
+  }
+
+  public void forEachDot(final Consumer<Dot> action) {
+    for(final Map.Entry<String, Long> entry : vector.entrySet()) {
+      for(long counter = 1L; counter <= entry.getValue(); counter++) {
+        action.accept(new Dot(entry.getKey(), counter));
+      }
+    }
+
+    cloud.forEach(action);
+  }
+
+  public CausalContext copy() {
+    return new CausalContext(vector, cloud);
+  }
+
+  // Absorbs cloud dots that directly follow max into the vector.
+  private long compact(final String replicaId, long max) {
+    if(cloud.isEmpty()) {
+      return max;
+    }
+
+    while(cloud.remove(new Dot(replicaId, max + 1L))) {
+      max++;
+    }
+
+    return max;
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public Map<String, Long> getVector() {
+    return Collections.unmodifiableMap(vector);
+  }
+
+  public Set<Dot> getCloud() {
+    return Collections.unmodifiableSet(cloud);
+  }
+
+  // Object methods
+  //--------------------------------------------------
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("vector", vector)
+        .append("cloud", cloud)
+        .toString();
+  }
+
+}
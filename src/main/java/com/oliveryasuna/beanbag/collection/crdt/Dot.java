@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.crdt;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Objects;
+
+public final class Dot {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public Dot(final String replicaId, final long counter) {
+    super();
+
+    if(counter <= 0L) {
+      throw new IllegalArgumentException("Counter must be positive.");
+    }
+
+    this.replicaId = Objects.requireNonNull(replicaId);
+    this.counter = counter;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final String replicaId;
+
+  private final long counter;
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public String getReplicaId() {
+    return replicaId;
+  }
+
+  public long getCounter() {
+    return counter;
+  }
+
+  // Object methods
+  //--------------------------------------------------
+
+  // Dots are hashed millions of times during a merge, so these avoid the builders.
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(other == null || getClass() != other.getClass()) return false;
+
+    final Dot otherCasted = (Dot)other;
+
+    return (counter == otherCasted.counter && replicaId.equals(otherCasted.replicaId));
+  }
+
+  @Override
+  public int hashCode() {
+    return (31 * replicaId.hashCode() + Long.hashCode(counter));
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("replicaId", getReplicaId())
+        .append("counter", getCounter())
+        .toString();
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.crdt;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+public final class ORSetState<T> {
+
+  // Static methods
+  //--------------------------------------------------
+
+  static <T> ORSetState<T> wrap(final Map<T, Dot[]> entries, final CausalContext context) {
+    return new ORSetState<>(context, entries);
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  public ORSetState() {
+    this(new CausalContext(), new HashMap<>());
+  }
+
+  public ORSetState(final Map<T, ? extends Collection<Dot>> entries, final CausalContext context) {
+    this(context.copy(), new HashMap<>(entries.size() * 4 / 3 + 1));
+
+    entries.forEach((element, dots) -> {
+      if(!dots.isEmpty()) {
+        this.entries.put(element, dots.toArray(new Dot[0]));
+      }
+    });
+  }
+
+  private ORSetState(final CausalContext context, final Map<T, Dot[]> entries) {
+    super();
+
+    this.entries = entries;
+    this.context = context;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  final Map<T, Dot[]> entries;
+
+  final CausalContext context;
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public Set<T> getElements() {
+    return Collections.unmodifiableSet(entries.keySet());
+  }
+
+  public Set<Dot> getDots(final T element) {
+    final Dot[] dots = entries.get(element);
+
+    return (dots == null ? Collections.emptySet() : Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(dots))));
+  }
+
+  public CausalContext getContext() {
+    return context;
+  }
+
+  // Object methods
+  //--------------------------------------------------
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("elements", entries.keySet())
+        .append("context", context)
+        .toString();
+  }
+
+}
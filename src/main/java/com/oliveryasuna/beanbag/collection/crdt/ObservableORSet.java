@@ -0,0 +1,350 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.crdt;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableSet;
+import com.oliveryasuna.beanbag.collection.jfr.BulkMutationEvent;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class ObservableORSet<T> extends AbstractObservableSet<T, Set<T>, ObservableORSet<T>> {
+
+  // Static methods
+  //--------------------------------------------------
+
+  private static boolean containsDot(final Dot[] dots, final Dot dot) {
+    if(dots != null) {
+      for(final Dot candidate : dots) {
+        if(candidate.equals(dot)) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  private static Dot[] withDot(final Dot[] dots, final Dot dot) {
+    if(dots == null) {
+      return new Dot[] {dot};
+    }
+
+    final Dot[] result = Arrays.copyOf(dots, dots.length + 1);
+
+    result[dots.length] = dot;
+
+    return result;
+  }
+
+  private static Dot[] withoutDot(final Dot[] dots, final Dot dot) {
+    final Dot[] result = new Dot[dots.length - 1];
+
+    int i = 0;
+
+    for(final Dot candidate : dots) {
+      if(!candidate.equals(dot)) {
+        result[i++] = candidate;
+      }
+    }
+
+    return result;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  public ObservableORSet(final String replicaId) {
+    this(new Storage<>(replicaId));
+  }
+
+  private ObservableORSet(final Storage<T> storage) {
+    super(storage);
+
+    this.storage = storage;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Storage<T> storage;
+
+  // CRDT methods
+  //--------------------------------------------------
+
+  public ORSetState<T> state() {
+    final Map<T, Dot[]> entries = new HashMap<>(storage.entries.size() * 4 / 3 + 1);
+
+    storage.entries.forEach((element, dots) -> entries.put(element, dots.clone()));
+
+    return ORSetState.wrap(entries, storage.context.copy());
+  }
+
+  public ORSetState<T> takeDelta() {
+    final ORSetState<T> delta = ORSetState.wrap(storage.deltaEntries, storage.deltaContext);
+
+    storage.deltaEntries = new HashMap<>();
+    storage.deltaContext = new CausalContext();
+
+    return delta;
+  }
+
+  public void merge(final ORSetState<T> other) {
+    final BulkMutationEvent bulkEvent = new BulkMutationEvent();
+    final int sizeBefore = size();
+
+    bulkEvent.begin();
+    beginBulkMutation();
+
+    try {
+      storage.counter = Math.max(storage.counter, other.context.max(storage.replicaId));
+
+      // Adds go first so that an element re-added concurrently with a remove never flickers out.
+      for(final Map.Entry<T, Dot[]> entry : other.entries.entrySet()) {
+        final T element = entry.getKey();
+        final Dot[] before = storage.entries.get(element);
+
+        Dot[] after = before;
+
+        for(final Dot dot : entry.getValue()) {
+          // Every local dot is in the local context, so this also skips dots that are already present.
+          if(!storage.context.contains(dot)) {
+            after = withDot(after, dot);
+
+            storage.owners.put(dot, element);
+          }
+        }
+
+        if(after != before) {
+          storage.entries.put(element, after);
+
+          if(before == null) {
+            fireElementAddedEvent(element);
+          }
+        }
+      }
+
+      // Local dots the other side has observed but no longer holds were removed there.
+      final List<T> removed = new ArrayList<>();
+
+      if(other.context.dotCount() < storage.owners.size()) {
+        other.context.forEachDot(dot -> {
+          final T element = storage.owners.get(dot);
+
+          if(element != null && !containsDot(other.entries.get(element), dot)) {
+            storage.owners.remove(dot);
+
+            dropDot(element, dot, removed);
+          }
+        });
+      } else {
+        final Iterator<Map.Entry<Dot, T>> iterator = storage.owners.entrySet().iterator();
+
+        while(iterator.hasNext()) {
+          final Map.Entry<Dot, T> entry = iterator.next();
+          final Dot dot = entry.getKey();
+
+          if(other.context.contains(dot) && !containsDot(other.entries.get(entry.getValue()), dot)) {
+            iterator.remove();
+
+            dropDot(entry.getValue(), dot, removed);
+          }
+        }
+      }
+
+      storage.context.join(other.context);
+
+      for(final T element : removed) {
+        fireElementRemovedEvent(element);
+      }
+
+      bulkEvent.complete(this, "merge", sizeBefore, size());
+    } finally {
+      endBulkMutation();
+    }
+  }
+
+  private void dropDot(final T element, final Dot dot, final List<T> removed) {
+    final Dot[] dots = storage.entries.get(element);
+
+    if(dots.length == 1) {
+      storage.entries.remove(element);
+
+      removed.add(element);
+    } else {
+      storage.entries.put(element, withoutDot(dots, dot));
+    }
+  }
+
+  // Collection methods
+  //--------------------------------------------------
+
+  @Override
+  public int size() {
+    return storage.entries.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return storage.entries.isEmpty();
+  }
+
+  @Override
+  public boolean contains(final Object element) {
+    return storage.entries.containsKey(element);
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public String getReplicaId() {
+    return storage.replicaId;
+  }
+
+  // Storage
+  //--------------------------------------------------
+
+  private static final class Storage<T> extends AbstractSet<T> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Storage(final String replicaId) {
+      super();
+
+      this.replicaId = replicaId;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final String replicaId;
+
+    private long counter;
+
+    private final Map<T, Dot[]> entries = new HashMap<>();
+
+    private final Map<Dot, T> owners = new HashMap<>();
+
+    private final CausalContext context = new CausalContext();
+
+    private Map<T, Dot[]> deltaEntries = new HashMap<>();
+
+    private CausalContext deltaContext = new CausalContext();
+
+    // Methods
+    //--------------------------------------------------
+
+    private void forget(final Object element, final Dot[] dots) {
+      for(final Dot dot : dots) {
+        owners.remove(dot);
+        deltaContext.add(dot);
+      }
+
+      deltaEntries.remove(element);
+    }
+
+    // Set methods
+    //--------------------------------------------------
+
+    @Override
+    public int size() {
+      return entries.size();
+    }
+
+    @Override
+    public boolean contains(final Object element) {
+      return entries.containsKey(element);
+    }
+
+    // A fresh dot is minted even for present elements, so a local add wins over concurrent removes of the old dots.
+    @Override
+    public boolean add(final T element) {
+      final Dot dot = new Dot(replicaId, ++counter);
+      final Dot[] oldDots = entries.put(element, new Dot[] {dot});
+
+      if(oldDots != null) {
+        forget(element, oldDots);
+      }
+
+      owners.put(dot, element);
+      context.add(dot);
+
+      deltaEntries.put(element, new Dot[] {dot});
+      deltaContext.add(dot);
+
+      return (oldDots == null);
+    }
+
+    @Override
+    public boolean remove(final Object element) {
+      final Dot[] dots = entries.remove(element);
+
+      if(dots == null) {
+        return false;
+      }
+
+      forget(element, dots);
+
+      return true;
+    }
+
+    @Override
+    public void clear() {
+      entries.forEach(this::forget);
+      entries.clear();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      final Iterator<Map.Entry<T, Dot[]>> iterator = entries.entrySet().iterator();
+
+      return new Iterator<>() {
+
+        private Map.Entry<T, Dot[]> last;
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+          return (last = iterator.next()).getKey();
+        }
+
+        @Override
+        public void remove() {
+          iterator.remove();
+
+          forget(last.getKey(), last.getValue());
+        }
+
+      };
+    }
+
+  }
+
+}
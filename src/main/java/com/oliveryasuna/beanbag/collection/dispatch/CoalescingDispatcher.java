@@ -0,0 +1,437 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.dispatch;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableList;
+import com.oliveryasuna.beanbag.collection.event.ListElementAddedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementChangedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementMovedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementsChangedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementsPermutedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementsRemovedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementRemovedEvent;
+import com.oliveryasuna.beanbag.collection.listener.ListElementAddedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementChangedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementMovedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementsChangedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementsPermutedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementsRemovedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementRemovedListener;
+import com.oliveryasuna.commons.language.pattern.registry.Registration;
+import org.apache.commons.lang3.event.EventListenerSupport;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public class CoalescingDispatcher<T, LST extends List<T>, SRC extends AbstractObservableList<T, LST, SRC>> implements AutoCloseable {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public CoalescingDispatcher(final SRC source, final ScheduledExecutorService scheduler, final Duration window, final WindowMode mode,
+      final int maxBufferSize) {
+    super();
+
+    if(maxBufferSize < 1) {
+      throw new IllegalArgumentException("Buffer size must be positive.");
+    }
+
+    this.source = source;
+    this.scheduler = Objects.requireNonNull(scheduler);
+    this.windowNanos = window.toNanos();
+    this.mode = Objects.requireNonNull(mode);
+    this.maxBufferSize = maxBufferSize;
+
+    source.addElementAddedListener(sourceAddedListener);
+    source.addElementRemovedListener(sourceRemovedListener);
+    source.addElementChangedListener(sourceChangedListener);
+    source.addElementMovedListener(sourceMovedListener);
+    source.addElementsPermutedListener(sourcePermutedListener);
+    source.addElementsChangedListener(sourceBulkChangedListener);
+    source.addElementsRemovedListener(sourceBulkRemovedListener);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final SRC source;
+
+  private final ScheduledExecutorService scheduler;
+
+  private final long windowNanos;
+
+  private final WindowMode mode;
+
+  private final int maxBufferSize;
+
+  private final Object flushLock = new Object();
+
+  private List<Pending<T>> pending = new ArrayList<>();
+
+  private final Map<Integer, Pending<T>> currentRun = new HashMap<>();
+
+  private ScheduledFuture<?> scheduledFlush;
+
+  private final ListElementAddedListener<T, LST, SRC> sourceAddedListener = (event -> offerAdded(event.getElement(), event.getIndex()));
+
+  private final ListElementRemovedListener<T, LST, SRC> sourceRemovedListener = (event -> offerRemoved(event.getElement(), event.getIndex()));
+
+  private final ListElementChangedListener<T, LST, SRC> sourceChangedListener =
+      (event -> offerChanged(event.getNewElement(), event.getOldElement(), event.getIndex()));
+
+  private final ListElementMovedListener<T, LST, SRC> sourceMovedListener =
+      (event -> offerMoved(event.getElement(), event.getFromIndex(), event.getToIndex()));
+
+  private final ListElementsPermutedListener<T, LST, SRC> sourcePermutedListener = (event -> passPermuted(event));
+
+  private final ListElementsChangedListener<T, LST, SRC> sourceBulkChangedListener = (event -> passBulkChanged(event));
+
+  private final ListElementsRemovedListener<T, LST, SRC> sourceBulkRemovedListener = (event -> passBulkRemoved(event));
+
+  // Listener registries
+  //--------------------------------------------------
+
+  protected final EventListenerSupport<ListElementAddedListener> elementAddedListeners =
+      EventListenerSupport.create(ListElementAddedListener.class);
+
+  protected final EventListenerSupport<ListElementRemovedListener> elementRemovedListeners =
+      EventListenerSupport.create(ListElementRemovedListener.class);
+
+  protected final EventListenerSupport<ListElementChangedListener> elementChangedListeners =
+      EventListenerSupport.create(ListElementChangedListener.class);
+
+  protected final EventListenerSupport<ListElementMovedListener> elementMovedListeners =
+      EventListenerSupport.create(ListElementMovedListener.class);
+
+  protected final EventListenerSupport<ListElementsPermutedListener> elementsPermutedListeners =
+      EventListenerSupport.create(ListElementsPermutedListener.class);
+
+  protected final EventListenerSupport<ListElementsChangedListener> elementsChangedListeners =
+      EventListenerSupport.create(ListElementsChangedListener.class);
+
+  protected final EventListenerSupport<ListElementsRemovedListener> elementsRemovedListeners =
+      EventListenerSupport.create(ListElementsRemovedListener.class);
+
+  // Listener registration methods
+  //--------------------------------------------------
+
+  public Registration addElementAddedListener(final ListElementAddedListener<T, LST, SRC> listener) {
+    elementAddedListeners.addListener(listener);
+
+    return (() -> removeElementAddedListener(listener));
+  }
+
+  public void removeElementAddedListener(final ListElementAddedListener<T, LST, SRC> listener) {
+    elementAddedListeners.removeListener(listener);
+  }
+
+  public Registration addElementRemovedListener(final ListElementRemovedListener<T, LST, SRC> listener) {
+    elementRemovedListeners.addListener(listener);
+
+    return (() -> removeElementRemovedListener(listener));
+  }
+
+  public void removeElementRemovedListener(final ListElementRemovedListener<T, LST, SRC> listener) {
+    elementRemovedListeners.removeListener(listener);
+  }
+
+  public Registration addElementChangedListener(final ListElementChangedListener<T, LST, SRC> listener) {
+    elementChangedListeners.addListener(listener);
+
+    return (() -> removeElementChangedListener(listener));
+  }
+
+  public void removeElementChangedListener(final ListElementChangedListener<T, LST, SRC> listener) {
+    elementChangedListeners.removeListener(listener);
+  }
+
+  public Registration addElementMovedListener(final ListElementMovedListener<T, LST, SRC> listener) {
+    elementMovedListeners.addListener(listener);
+
+    return (() -> removeElementMovedListener(listener));
+  }
+
+  public void removeElementMovedListener(final ListElementMovedListener<T, LST, SRC> listener) {
+    elementMovedListeners.removeListener(listener);
+  }
+
+  public Registration addElementsPermutedListener(final ListElementsPermutedListener<T, LST, SRC> listener) {
+    elementsPermutedListeners.addListener(listener);
+
+    return (() -> removeElementsPermutedListener(listener));
+  }
+
+  public void removeElementsPermutedListener(final ListElementsPermutedListener<T, LST, SRC> listener) {
+    elementsPermutedListeners.removeListener(listener);
+  }
+
+  public Registration addElementsChangedListener(final ListElementsChangedListener<T, LST, SRC> listener) {
+    elementsChangedListeners.addListener(listener);
+
+    return (() -> removeElementsChangedListener(listener));
+  }
+
+  public void removeElementsChangedListener(final ListElementsChangedListener<T, LST, SRC> listener) {
+    elementsChangedListeners.removeListener(listener);
+  }
+
+  public Registration addElementsRemovedListener(final ListElementsRemovedListener<T, LST, SRC> listener) {
+    elementsRemovedListeners.addListener(listener);
+
+    return (() -> removeElementsRemovedListener(listener));
+  }
+
+  public void removeElementsRemovedListener(final ListElementsRemovedListener<T, LST, SRC> listener) {
+    elementsRemovedListeners.removeListener(listener);
+  }
+
+  // Buffering methods
+  //--------------------------------------------------
+
+  private void offerAdded(final T element, final int index) {
+    synchronized(this) {
+      final Pending<T> added = new Pending<>(Kind.ADDED, element, null, index, -1);
+
+      currentRun.clear();
+      currentRun.put(index, added);
+
+      append(added);
+    }
+
+    afterOffer();
+  }
+
+  private void offerRemoved(final T element, final int index) {
+    synchronized(this) {
+      final Pending<T> previous = currentRun.get(index);
+
+      currentRun.clear();
+
+      if(previous != null && previous.kind == Kind.ADDED) {
+        previous.cancelled = true;
+
+        for(int i = pending.size() - 1; pending.get(i) != previous; i--) {
+          final Pending<T> change = pending.get(i);
+
+          if(change.index > index) {
+            change.index--;
+          }
+        }
+      } else if(previous != null) {
+        previous.cancelled = true;
+
+        append(new Pending<>(Kind.REMOVED, previous.oldElement, null, index, -1));
+      } else {
+        append(new Pending<>(Kind.REMOVED, element, null, index, -1));
+      }
+    }
+
+    afterOffer();
+  }
+
+  private void offerChanged(final T newElement, final T oldElement, final int index) {
+    synchronized(this) {
+      final Pending<T> previous = currentRun.get(index);
+
+      if(previous == null) {
+        final Pending<T> changed = new Pending<>(Kind.CHANGED, newElement, oldElement, index, -1);
+
+        currentRun.put(index, changed);
+
+        append(changed);
+      } else if(previous.kind == Kind.ADDED) {
+        previous.element = newElement;
+      } else {
+        previous.element = newElement;
+
+        if(Objects.equals(previous.element, previous.oldElement)) {
+          previous.cancelled = true;
+
+          currentRun.remove(index);
+        }
+      }
+    }
+
+    afterOffer();
+  }
+
+  private void offerMoved(final T element, final int fromIndex, final int toIndex) {
+    synchronized(this) {
+      currentRun.clear();
+
+      append(new Pending<>(Kind.MOVED, element, null, fromIndex, toIndex));
+    }
+
+    afterOffer();
+  }
+
+  private void passPermuted(final ListElementsPermutedEvent<T, LST, SRC> event) {
+    flush();
+
+    elementsPermutedListeners.fire().elementsPermuted(event);
+  }
+
+  private void passBulkChanged(final ListElementsChangedEvent<T, LST, SRC> event) {
+    flush();
+
+    elementsChangedListeners.fire().elementsChanged(event);
+  }
+
+  private void passBulkRemoved(final ListElementsRemovedEvent<T, LST, SRC> event) {
+    flush();
+
+    elementsRemovedListeners.fire().elementsRemoved(event);
+  }
+
+  private void append(final Pending<T> event) {
+    pending.add(event);
+
+    if(mode == WindowMode.DEBOUNCE && scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+
+    if(scheduledFlush == null) {
+      scheduledFlush = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void afterOffer() {
+    final boolean full;
+
+    synchronized(this) {
+      full = (pending.size() >= maxBufferSize);
+    }
+
+    if(full) {
+      flush();
+    }
+  }
+
+  // Flushing methods
+  //--------------------------------------------------
+
+  public void flush() {
+    synchronized(flushLock) {
+      final List<Pending<T>> batch;
+
+      synchronized(this) {
+        if(scheduledFlush != null) {
+          scheduledFlush.cancel(false);
+          scheduledFlush = null;
+        }
+
+        batch = pending;
+
+        pending = new ArrayList<>();
+        currentRun.clear();
+      }
+
+      for(final Pending<T> event : batch) {
+        if(!event.cancelled) {
+          fire(event);
+        }
+      }
+    }
+  }
+
+  private void fire(final Pending<T> event) {
+    switch(event.kind) {
+      case ADDED:
+        elementAddedListeners.fire().elementAdded(new ListElementAddedEvent<>(event.element, event.index, source));
+        break;
+      case REMOVED:
+        elementRemovedListeners.fire().elementRemoved(new ListElementRemovedEvent<>(event.element, event.index, source));
+        break;
+      case CHANGED:
+        elementChangedListeners.fire().elementChanged(new ListElementChangedEvent<>(event.element, event.oldElement, event.index, source));
+        break;
+      case MOVED:
+        elementMovedListeners.fire().elementMoved(new ListElementMovedEvent<>(event.element, event.index, event.toIndex, source));
+        break;
+    }
+  }
+
+  // AutoCloseable methods
+  //--------------------------------------------------
+
+  @Override
+  public void close() {
+    source.removedElementAddedListener(sourceAddedListener);
+    source.removedElementRemovedListener(sourceRemovedListener);
+    source.removeElementChangedListener(sourceChangedListener);
+    source.removeElementMovedListener(sourceMovedListener);
+    source.removeElementsPermutedListener(sourcePermutedListener);
+    source.removeElementsChangedListener(sourceBulkChangedListener);
+    source.removeElementsRemovedListener(sourceBulkRemovedListener);
+
+    flush();
+  }
+
+  // Pending
+  //--------------------------------------------------
+
+  private enum Kind {
+
+    ADDED,
+
+    REMOVED,
+
+    CHANGED,
+
+    MOVED
+
+  }
+
+  private static final class Pending<T> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Pending(final Kind kind, final T element, final T oldElement, final int index, final int toIndex) {
+      super();
+
+      this.kind = kind;
+      this.element = element;
+      this.oldElement = oldElement;
+      this.index = index;
+      this.toIndex = toIndex;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final Kind kind;
+
+    private T element;
+
+    private final T oldElement;
+
+    private int index;
+
+    private final int toIndex;
+
+    private boolean cancelled;
+
+  }
+
+}
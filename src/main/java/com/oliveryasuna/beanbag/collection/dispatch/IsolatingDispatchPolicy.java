@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.dispatch;
+
+import com.oliveryasuna.beanbag.collection.ConcurrentWeakIdentityMap;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class IsolatingDispatchPolicy implements DispatchPolicy {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public IsolatingDispatchPolicy(final Duration budget, final int maxOverBudget, final int maxFailures, final Executor asyncLane,
+      final IsolationCallback callback) {
+    super();
+
+    if(maxOverBudget < 1) {
+      throw new IllegalArgumentException("Over-budget limit must be positive.");
+    }
+
+    if(maxFailures < 1) {
+      throw new IllegalArgumentException("Failure limit must be positive.");
+    }
+
+    this.budgetNanos = budget.toNanos();
+    this.maxOverBudget = maxOverBudget;
+    this.maxFailures = maxFailures;
+    this.asyncLane = Objects.requireNonNull(asyncLane);
+    this.callback = Objects.requireNonNull(callback);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final long budgetNanos;
+
+  private final int maxOverBudget;
+
+  private final int maxFailures;
+
+  private final Executor asyncLane;
+
+  private final IsolationCallback callback;
+
+  private final ConcurrentWeakIdentityMap<Object, ListenerRecord> records = new ConcurrentWeakIdentityMap<>();
+
+  // DispatchPolicy methods
+  //--------------------------------------------------
+
+  @Override
+  public <L> void dispatch(final L[] listeners, final Consumer<? super L> invoker) {
+    for(final L listener : listeners) {
+      final ListenerRecord record = records.computeIfAbsent(listener, key -> new ListenerRecord());
+
+      switch(record.state) {
+        case INLINE:
+          invoke(listener, record, invoker);
+          break;
+        case ASYNC:
+          asyncLane.execute(() -> invoke(listener, record, invoker));
+          break;
+        case QUARANTINED:
+          break;
+      }
+    }
+  }
+
+  // Methods
+  //--------------------------------------------------
+
+  public ListenerState getState(final Object listener) {
+    final ListenerRecord record = records.get(listener);
+
+    return (record != null ? record.state : ListenerState.INLINE);
+  }
+
+  public void reinstate(final Object listener) {
+    records.remove(listener);
+  }
+
+  private <L> void invoke(final L listener, final ListenerRecord record, final Consumer<? super L> invoker) {
+    final long start = System.nanoTime();
+
+    try {
+      invoker.accept(listener);
+    } catch(final RuntimeException e) {
+      failed(listener, record, e);
+
+      return;
+    }
+
+    final long elapsed = System.nanoTime() - start;
+
+    if(elapsed > budgetNanos && record.overBudget.incrementAndGet() >= maxOverBudget) {
+      demote(listener, record, elapsed);
+    }
+  }
+
+  private void failed(final Object listener, final ListenerRecord record, final RuntimeException failure) {
+    callback.listenerFailed(listener, failure);
+
+    if(record.failures.incrementAndGet() >= maxFailures) {
+      synchronized(record) {
+        if(record.state == ListenerState.QUARANTINED) {
+          return;
+        }
+
+        record.state = ListenerState.QUARANTINED;
+      }
+
+      callback.listenerQuarantined(listener, failure);
+    }
+  }
+
+  private void demote(final Object listener, final ListenerRecord record, final long elapsedNanos) {
+    synchronized(record) {
+      if(record.state != ListenerState.INLINE) {
+        return;
+      }
+
+      record.state = ListenerState.ASYNC;
+    }
+
+    callback.listenerDemoted(listener, elapsedNanos);
+  }
+
+  // ListenerRecord
+  //--------------------------------------------------
+
+  private static final class ListenerRecord {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private ListenerRecord() {
+      super();
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private volatile ListenerState state = ListenerState.INLINE;
+
+    private final AtomicInteger overBudget = new AtomicInteger();
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+  }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.dispatch;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+public class ParallelDispatchPolicy implements DispatchPolicy {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int DEFAULT_THRESHOLD = 16;
+
+  // Constructors
+  //--------------------------------------------------
+
+  public ParallelDispatchPolicy(final ForkJoinPool pool, final int threshold, final boolean await) {
+    super();
+
+    if(threshold < 1) {
+      throw new IllegalArgumentException("Threshold must be positive.");
+    }
+
+    this.pool = Objects.requireNonNull(pool);
+    this.threshold = threshold;
+    this.await = await;
+  }
+
+  public ParallelDispatchPolicy(final boolean await) {
+    this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD, await);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final ForkJoinPool pool;
+
+  private final int threshold;
+
+  private final boolean await;
+
+  // DispatchPolicy methods
+  //--------------------------------------------------
+
+  @Override
+  public <L> void dispatch(final L[] listeners, final Consumer<? super L> invoker) {
+    if(listeners.length <= threshold) {
+      for(final L listener : listeners) {
+        invoker.accept(listener);
+      }
+
+      return;
+    }
+
+    final FanOut<L> task = new FanOut<>(listeners, invoker, 0, listeners.length, threshold);
+
+    if(await) {
+      pool.invoke(task);
+    } else {
+      pool.execute(task);
+    }
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public ForkJoinPool getPool() {
+    return pool;
+  }
+
+  public int getThreshold() {
+    return threshold;
+  }
+
+  public boolean isAwait() {
+    return await;
+  }
+
+  // FanOut
+  //--------------------------------------------------
+
+  private static final class FanOut<L> extends RecursiveAction {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private FanOut(final L[] listeners, final Consumer<? super L> invoker, final int from, final int to, final int threshold) {
+      super();
+
+      this.listeners = listeners;
+      this.invoker = invoker;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final L[] listeners;
+
+    private final Consumer<? super L> invoker;
+
+    private final int from;
+
+    private final int to;
+
+    private final int threshold;
+
+    // RecursiveAction methods
+    //--------------------------------------------------
+
+    @Override
+    protected void compute() {
+      if(to - from <= threshold) {
+        for(int i = from; i < to; i++) {
+          invoker.accept(listeners[i]);
+        }
+
+        return;
+      }
+
+      final int middle = (from + to) >>> 1;
+
+      invokeAll(new FanOut<>(listeners, invoker, from, middle, threshold), new FanOut<>(listeners, invoker, middle, to, threshold));
+    }
+
+  }
+
+}
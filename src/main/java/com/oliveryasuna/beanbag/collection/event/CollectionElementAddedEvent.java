@@ -28,6 +28,18 @@ import java.util.Collection;
 public class CollectionElementAddedEvent<T, COL extends Collection<T>, SRC extends AbstractObservableCollection<T, COL, SRC>>
     extends CollectionEvent<T, COL, SRC> {
 
+  // Static methods
+  //--------------------------------------------------
+
+  // A reusable event is overwritten by each reset(); see AbstractObservableCollection.setReuseEvents.
+  public static <T, COL extends Collection<T>, SRC extends AbstractObservableCollection<T, COL, SRC>> CollectionElementAddedEvent<T, COL, SRC> reusable(final SRC source) {
+    final CollectionElementAddedEvent<T, COL, SRC> event = new CollectionElementAddedEvent<>(null, source);
+
+    event.frozen = false;
+
+    return event;
+  }
+
   // Constructors
   //--------------------------------------------------
 
@@ -40,7 +52,35 @@ public class CollectionElementAddedEvent<T, COL extends Collection<T>, SRC exten
   // Fields
   //--------------------------------------------------
 
-  private final T element;
+  private T element;
+
+  private boolean frozen = true;
+
+  // Methods
+  //--------------------------------------------------
+
+  public CollectionElementAddedEvent<T, COL, SRC> reset(final T element) {
+    if(frozen) {
+      throw new IllegalStateException("Event is frozen.");
+    }
+
+    this.element = element;
+
+    return this;
+  }
+
+  public CollectionElementAddedEvent<T, COL, SRC> copy() {
+    return new CollectionElementAddedEvent<>(element, getSource());
+  }
+
+  // Returns this event if it is not reusable, otherwise a copy that stays valid after the listener returns.
+  public CollectionElementAddedEvent<T, COL, SRC> freeze() {
+    return (frozen ? this : copy());
+  }
+
+  public boolean isFrozen() {
+    return frozen;
+  }
 
   // Getters/setters
   //--------------------------------------------------
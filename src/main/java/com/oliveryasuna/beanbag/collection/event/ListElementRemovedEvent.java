@@ -27,6 +27,18 @@ import java.util.List;
 
 public class ListElementRemovedEvent<T, LST extends List<T>, SRC extends AbstractObservableList<T, LST, SRC>> extends ListEvent<T, LST, SRC> {
 
+  // Static methods
+  //--------------------------------------------------
+
+  // A reusable event is overwritten by each reset(); see AbstractObservableCollection.setReuseEvents.
+  public static <T, LST extends List<T>, SRC extends AbstractObservableList<T, LST, SRC>> ListElementRemovedEvent<T, LST, SRC> reusable(final SRC source) {
+    final ListElementRemovedEvent<T, LST, SRC> event = new ListElementRemovedEvent<>(null, -1, source);
+
+    event.frozen = false;
+
+    return event;
+  }
+
   // Constructors
   //--------------------------------------------------
 
@@ -40,9 +52,38 @@ public class ListElementRemovedEvent<T, LST extends List<T>, SRC extends Abstrac
   // Fields
   //--------------------------------------------------
 
-  private final T element;
+  private T element;
+
+  private int index;
+
+  private boolean frozen = true;
+
+  // Methods
+  //--------------------------------------------------
+
+  public ListElementRemovedEvent<T, LST, SRC> reset(final T element, final int index) {
+    if(frozen) {
+      throw new IllegalStateException("Event is frozen.");
+    }
 
-  private final int index;
+    this.element = element;
+    this.index = index;
+
+    return this;
+  }
+
+  public ListElementRemovedEvent<T, LST, SRC> copy() {
+    return new ListElementRemovedEvent<>(element, index, getSource());
+  }
+
+  // Returns this event if it is not reusable, otherwise a copy that stays valid after the listener returns.
+  public ListElementRemovedEvent<T, LST, SRC> freeze() {
+    return (frozen ? this : copy());
+  }
+
+  public boolean isFrozen() {
+    return frozen;
+  }
 
   // Getters/setters
   //--------------------------------------------------
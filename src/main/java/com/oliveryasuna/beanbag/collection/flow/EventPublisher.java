@@ -0,0 +1,396 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.flow;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableCollection;
+import com.oliveryasuna.beanbag.collection.AbstractObservableList;
+import com.oliveryasuna.beanbag.collection.event.CollectionEvent;
+import com.oliveryasuna.beanbag.collection.event.ListEvent;
+import com.oliveryasuna.beanbag.collection.listener.*;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EventPublisher<E> implements Flow.Publisher<E>, AutoCloseable {
+
+  // Static methods
+  //--------------------------------------------------
+
+  public static <T, COL extends Collection<T>, SRC extends AbstractObservableCollection<T, COL, SRC>> EventPublisher<CollectionEvent<T, COL, SRC>> ofCollection(
+      final SRC source, final OverflowStrategy strategy, final int capacity) {
+    final EventPublisher<CollectionEvent<T, COL, SRC>> publisher = new EventPublisher<>(strategy, capacity);
+
+    final CollectionElementAddedListener<T, COL, SRC> addedListener = (event -> publisher.publish(event.freeze()));
+    final CollectionElementRemovedListener<T, COL, SRC> removedListener = (event -> publisher.publish(event.freeze()));
+
+    source.addElementAddedListener(addedListener);
+    source.addElementRemovedListener(removedListener);
+
+    publisher.detacher = () -> {
+      source.removedElementAddedListener(addedListener);
+      source.removedElementRemovedListener(removedListener);
+    };
+
+    return publisher;
+  }
+
+  public static <T, LST extends List<T>, SRC extends AbstractObservableList<T, LST, SRC>> EventPublisher<ListEvent<T, LST, SRC>> ofList(
+      final SRC source, final OverflowStrategy strategy, final int capacity) {
+    final EventPublisher<ListEvent<T, LST, SRC>> publisher = new EventPublisher<>(strategy, capacity);
+
+    final ListElementAddedListener<T, LST, SRC> addedListener = (event -> publisher.publish(event.freeze()));
+    final ListElementRemovedListener<T, LST, SRC> removedListener = (event -> publisher.publish(event.freeze()));
+    final ListElementChangedListener<T, LST, SRC> changedListener = publisher::publish;
+    final ListElementMovedListener<T, LST, SRC> movedListener = publisher::publish;
+    final ListElementsPermutedListener<T, LST, SRC> permutedListener = publisher::publish;
+    final ListElementsChangedListener<T, LST, SRC> bulkChangedListener = publisher::publish;
+    final ListElementsRemovedListener<T, LST, SRC> bulkRemovedListener = publisher::publish;
+
+    source.addElementAddedListener(addedListener);
+    source.addElementRemovedListener(removedListener);
+    source.addElementChangedListener(changedListener);
+    source.addElementMovedListener(movedListener);
+    source.addElementsPermutedListener(permutedListener);
+    source.addElementsChangedListener(bulkChangedListener);
+    source.addElementsRemovedListener(bulkRemovedListener);
+
+    publisher.detacher = () -> {
+      source.removedElementAddedListener(addedListener);
+      source.removedElementRemovedListener(removedListener);
+      source.removeElementChangedListener(changedListener);
+      source.removeElementMovedListener(movedListener);
+      source.removeElementsPermutedListener(permutedListener);
+      source.removeElementsChangedListener(bulkChangedListener);
+      source.removeElementsRemovedListener(bulkRemovedListener);
+    };
+
+    return publisher;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected EventPublisher(final OverflowStrategy strategy, final int capacity) {
+    super();
+
+    if(capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive.");
+    }
+
+    this.strategy = Objects.requireNonNull(strategy);
+    this.capacity = capacity;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final OverflowStrategy strategy;
+
+  private final int capacity;
+
+  private final List<Subscription<E, ?>> subscriptions = new CopyOnWriteArrayList<>();
+
+  private Runnable detacher = () -> {};
+
+  private volatile boolean closed;
+
+  // Methods
+  //--------------------------------------------------
+
+  public Flow.Publisher<List<E>> batched(final int maxBatchSize) {
+    if(maxBatchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be positive.");
+    }
+
+    return (subscriber -> subscribe(new BatchSubscription<>(this, subscriber, maxBatchSize)));
+  }
+
+  protected void publish(final E event) {
+    for(final Subscription<E, ?> subscription : subscriptions) {
+      subscription.offer(event);
+    }
+  }
+
+  private void subscribe(final Subscription<E, ?> subscription) {
+    subscriptions.add(subscription);
+
+    subscription.subscriber.onSubscribe(subscription);
+
+    if(closed) {
+      subscription.complete();
+    }
+  }
+
+  private void unsubscribe(final Subscription<E, ?> subscription) {
+    subscriptions.remove(subscription);
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public OverflowStrategy getStrategy() {
+    return strategy;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  // Flow.Publisher methods
+  //--------------------------------------------------
+
+  @Override
+  public void subscribe(final Flow.Subscriber<? super E> subscriber) {
+    subscribe(new SingleSubscription<>(this, subscriber));
+  }
+
+  // AutoCloseable methods
+  //--------------------------------------------------
+
+  @Override
+  public void close() {
+    closed = true;
+
+    detacher.run();
+
+    for(final Subscription<E, ?> subscription : subscriptions) {
+      subscription.complete();
+    }
+  }
+
+  // Subscription
+  //--------------------------------------------------
+
+  private abstract static class Subscription<E, I> implements Flow.Subscription {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Subscription(final EventPublisher<E> publisher, final Flow.Subscriber<? super I> subscriber) {
+      super();
+
+      this.publisher = publisher;
+      this.subscriber = Objects.requireNonNull(subscriber);
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final EventPublisher<E> publisher;
+
+    private final Flow.Subscriber<? super I> subscriber;
+
+    private final ArrayDeque<E> queue = new ArrayDeque<>();
+
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private long requested;
+
+    private boolean done;
+
+    private Throwable error;
+
+    private volatile boolean cancelled;
+
+    // Methods
+    //--------------------------------------------------
+
+    protected abstract I take(ArrayDeque<E> queue);
+
+    private void offer(final E event) {
+      synchronized(this) {
+        if(done) {
+          return;
+        }
+
+        if(publisher.strategy == OverflowStrategy.BUFFER || queue.size() < publisher.capacity) {
+          queue.offerLast(event);
+        } else {
+          switch(publisher.strategy) {
+            case DROP_OLDEST:
+              queue.pollFirst();
+              queue.offerLast(event);
+              break;
+            case CONFLATE:
+              queue.pollLast();
+              queue.offerLast(event);
+              break;
+            case ERROR:
+              fail(new IllegalStateException("Subscriber buffer overflow."));
+              break;
+            default:
+              break;
+          }
+        }
+      }
+
+      drain();
+    }
+
+    private void complete() {
+      synchronized(this) {
+        done = true;
+      }
+
+      drain();
+    }
+
+    private void fail(final Throwable cause) {
+      queue.clear();
+
+      error = cause;
+      done = true;
+    }
+
+    private void drain() {
+      if(wip.getAndIncrement() != 0) {
+        return;
+      }
+
+      int missed = 1;
+
+      do {
+        while(!cancelled) {
+          final I item;
+          boolean terminated = false;
+          Throwable failure = null;
+
+          synchronized(this) {
+            if(requested > 0 && !queue.isEmpty()) {
+              item = take(queue);
+
+              if(requested != Long.MAX_VALUE) {
+                requested--;
+              }
+            } else {
+              item = null;
+
+              if(done && queue.isEmpty()) {
+                terminated = true;
+                failure = error;
+              }
+            }
+          }
+
+          if(item != null) {
+            subscriber.onNext(item);
+          } else {
+            if(terminated) {
+              cancel();
+
+              if(failure != null) {
+                subscriber.onError(failure);
+              } else {
+                subscriber.onComplete();
+              }
+            }
+
+            break;
+          }
+        }
+
+        missed = wip.addAndGet(-missed);
+      } while(missed != 0);
+    }
+
+    // Flow.Subscription methods
+    //--------------------------------------------------
+
+    @Override
+    public void request(final long n) {
+      synchronized(this) {
+        if(done) {
+          return;
+        }
+
+        if(n <= 0) {
+          fail(new IllegalArgumentException("Non-positive request: " + n + "."));
+        } else {
+          final long sum = requested + n;
+
+          requested = (sum < 0 ? Long.MAX_VALUE : sum);
+        }
+      }
+
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+
+      publisher.unsubscribe(this);
+    }
+
+  }
+
+  private static final class SingleSubscription<E> extends Subscription<E, E> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private SingleSubscription(final EventPublisher<E> publisher, final Flow.Subscriber<? super E> subscriber) {
+      super(publisher, subscriber);
+    }
+
+    // Subscription methods
+    //--------------------------------------------------
+
+    @Override
+    protected E take(final ArrayDeque<E> queue) {
+      return queue.pollFirst();
+    }
+
+  }
+
+  private static final class BatchSubscription<E> extends Subscription<E, List<E>> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private BatchSubscription(final EventPublisher<E> publisher, final Flow.Subscriber<? super List<E>> subscriber, final int maxBatchSize) {
+      super(publisher, subscriber);
+
+      this.maxBatchSize = maxBatchSize;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final int maxBatchSize;
+
+    // Subscription methods
+    //--------------------------------------------------
+
+    @Override
+    protected List<E> take(final ArrayDeque<E> queue) {
+      final List<E> batch = new ArrayList<>(Math.min(maxBatchSize, queue.size()));
+
+      while(batch.size() < maxBatchSize && !queue.isEmpty()) {
+        batch.add(queue.pollFirst());
+      }
+
+      return batch;
+    }
+
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.index;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableCollection;
+import com.oliveryasuna.beanbag.collection.listener.ElementObserver;
+
+import java.util.Set;
+import java.util.function.Function;
+
+public abstract class AbstractIndex<T, K> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected AbstractIndex(final AbstractObservableCollection<T, ?, ?> source, final Function<? super T, ? extends K> keyExtractor) {
+    super();
+
+    this.source = source;
+    this.keyExtractor = keyExtractor;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final AbstractObservableCollection<T, ?, ?> source;
+
+  protected final Function<? super T, ? extends K> keyExtractor;
+
+  private final ElementObserver<T> sourceObserver = new ElementObserver<>() {
+
+    @Override
+    public void elementAdded(final T element) {
+      index(element);
+    }
+
+    @Override
+    public void elementRemoved(final T element) {
+      unindex(element);
+    }
+
+  };
+
+  // Methods
+  //--------------------------------------------------
+
+  protected final void attach() {
+    rebuild();
+
+    source.addElementObserver(sourceObserver);
+  }
+
+  public void detach() {
+    source.removeElementObserver(sourceObserver);
+  }
+
+  public void rebuild() {
+    reset(source.size());
+
+    for(final T element : source) {
+      index(element);
+    }
+  }
+
+  public abstract boolean containsKey(K key);
+
+  public abstract Set<K> keySet();
+
+  protected abstract void reset(int expectedSize);
+
+  protected abstract void index(T element);
+
+  protected abstract void unindex(T element);
+
+  protected static int capacityFor(final int expectedSize) {
+    return (int)Math.min((long)Math.ceil(expectedSize / 0.75d), Integer.MAX_VALUE);
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public AbstractObservableCollection<T, ?, ?> getSource() {
+    return source;
+  }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.index;
+
+import java.util.AbstractCollection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+final class Bucket<T> extends AbstractCollection<T> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  Bucket() {
+    super();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Map<T, int[]> counts = new HashMap<>(4);
+
+  private int size;
+
+  // Methods
+  //--------------------------------------------------
+
+  void put(final T element) {
+    counts.computeIfAbsent(element, key -> new int[1])[0]++;
+    size++;
+  }
+
+  boolean delete(final Object element) {
+    final int[] count = counts.get(element);
+
+    if(count == null) {
+      return false;
+    }
+
+    if(--count[0] == 0) {
+      counts.remove(element);
+    }
+
+    size--;
+
+    return true;
+  }
+
+  // Collection methods
+  //--------------------------------------------------
+
+  @Override
+  public boolean contains(final Object element) {
+    return counts.containsKey(element);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    final Iterator<Map.Entry<T, int[]>> entries = counts.entrySet().iterator();
+
+    return new Iterator<>() {
+
+      private T element;
+
+      private int remaining;
+
+      @Override
+      public boolean hasNext() {
+        return (remaining > 0 || entries.hasNext());
+      }
+
+      @Override
+      public T next() {
+        if(remaining == 0) {
+          if(!entries.hasNext()) {
+            throw new NoSuchElementException();
+          }
+
+          final Map.Entry<T, int[]> entry = entries.next();
+
+          element = entry.getKey();
+          remaining = entry.getValue()[0];
+        }
+
+        remaining--;
+
+        return element;
+      }
+
+    };
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.index;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableCollection;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public final class HashIndex<T, K> extends AbstractIndex<T, K> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public HashIndex(final AbstractObservableCollection<T, ?, ?> source, final Function<? super T, ? extends K> keyExtractor) {
+    super(source, keyExtractor);
+
+    attach();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private Map<K, Bucket<T>> buckets = new HashMap<>();
+
+  // Methods
+  //--------------------------------------------------
+
+  public Collection<T> get(final K key) {
+    final Bucket<T> bucket = buckets.get(key);
+
+    return (bucket != null ? Collections.unmodifiableCollection(bucket) : Collections.emptyList());
+  }
+
+  public int count(final K key) {
+    final Bucket<T> bucket = buckets.get(key);
+
+    return (bucket != null ? bucket.size() : 0);
+  }
+
+  @Override
+  public boolean containsKey(final K key) {
+    return buckets.containsKey(key);
+  }
+
+  @Override
+  public Set<K> keySet() {
+    return Collections.unmodifiableSet(buckets.keySet());
+  }
+
+  @Override
+  protected void reset(final int expectedSize) {
+    buckets = new HashMap<>(capacityFor(expectedSize));
+  }
+
+  @Override
+  protected void index(final T element) {
+    buckets.computeIfAbsent(keyExtractor.apply(element), key -> new Bucket<>()).put(element);
+  }
+
+  @Override
+  protected void unindex(final T element) {
+    final K key = keyExtractor.apply(element);
+    final Bucket<T> bucket = buckets.get(key);
+
+    if(bucket != null && bucket.delete(element) && bucket.isEmpty()) {
+      buckets.remove(key);
+    }
+  }
+
+}
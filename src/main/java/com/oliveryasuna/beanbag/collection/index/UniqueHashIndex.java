@@ -0,0 +1,174 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.index;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableCollection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+public final class UniqueHashIndex<T, K> extends AbstractIndex<T, K> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public UniqueHashIndex(final AbstractObservableCollection<T, ?, ?> source, final Function<? super T, ? extends K> keyExtractor) {
+    super(source, keyExtractor);
+
+    attach();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private Map<K, Entry<T>> elements = new HashMap<>();
+
+  private final Set<K> conflictingKeys = new HashSet<>();
+
+  // Methods
+  //--------------------------------------------------
+
+  public T get(final K key) {
+    final Entry<T> entry = elements.get(key);
+
+    return (entry == null ? null : entry.element);
+  }
+
+  public boolean hasConflicts() {
+    return !conflictingKeys.isEmpty();
+  }
+
+  public Set<K> getConflictingKeys() {
+    return Collections.unmodifiableSet(conflictingKeys);
+  }
+
+  @Override
+  public boolean containsKey(final K key) {
+    return elements.containsKey(key);
+  }
+
+  @Override
+  public Set<K> keySet() {
+    return Collections.unmodifiableSet(elements.keySet());
+  }
+
+  @Override
+  protected void reset(final int expectedSize) {
+    elements = new HashMap<>(capacityFor(expectedSize));
+
+    conflictingKeys.clear();
+  }
+
+  // Runs inside the source's dispatch, after the mutation, so a clash is recorded rather than thrown.
+  @Override
+  protected void index(final T element) {
+    final K key = keyExtractor.apply(element);
+    final Entry<T> entry = elements.get(key);
+
+    if(entry == null) {
+      elements.put(key, new Entry<>(element));
+    } else if(Objects.equals(entry.element, element)) {
+      entry.count++;
+    } else {
+      if(entry.conflicts == null) {
+        entry.conflicts = new ArrayList<>(2);
+      }
+
+      entry.conflicts.add(element);
+
+      conflictingKeys.add(key);
+    }
+  }
+
+  @Override
+  protected void unindex(final T element) {
+    final K key = keyExtractor.apply(element);
+    final Entry<T> entry = elements.get(key);
+
+    if(entry == null) {
+      return;
+    }
+
+    if(Objects.equals(entry.element, element)) {
+      if(--entry.count > 0) {
+        return;
+      }
+
+      if(entry.conflicts == null) {
+        elements.remove(key);
+
+        return;
+      }
+
+      entry.element = entry.conflicts.remove(0);
+      entry.count = 1;
+
+      for(final Iterator<T> iterator = entry.conflicts.iterator(); iterator.hasNext(); ) {
+        if(Objects.equals(entry.element, iterator.next())) {
+          entry.count++;
+
+          iterator.remove();
+        }
+      }
+    } else if(entry.conflicts == null || !entry.conflicts.remove(element)) {
+      return;
+    }
+
+    if(entry.conflicts.isEmpty()) {
+      entry.conflicts = null;
+
+      conflictingKeys.remove(key);
+    }
+  }
+
+  // Entry
+  //--------------------------------------------------
+
+  private static final class Entry<T> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Entry(final T element) {
+      super();
+
+      this.element = element;
+      this.count = 1;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private T element;
+
+    private int count;
+
+    private List<T> conflicts;
+
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.oliveryasuna.beanbag.BulkMutation")
+@Label("Bulk Mutation")
+@Description("A bulk operation on an observable collection, including dispatch of its events.")
+@Category({"Beanbag", "Collection"})
+@StackTrace(false)
+@Threshold("10 ms")
+public final class BulkMutationEvent extends Event {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public BulkMutationEvent() {
+    super();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  @Label("Collection Class")
+  private String collectionClass;
+
+  @Label("Operation")
+  private String operation;
+
+  @Label("Size Before")
+  private int sizeBefore;
+
+  @Label("Size After")
+  private int sizeAfter;
+
+  @Label("Element Count")
+  @Description("Number of elements added or removed.")
+  private int elementCount;
+
+  // Methods
+  //--------------------------------------------------
+
+  public void complete(final Object collection, final String operation, final int sizeBefore, final int sizeAfter) {
+    end();
+
+    if(shouldCommit()) {
+      this.collectionClass = collection.getClass().getName();
+      this.operation = operation;
+      this.sizeBefore = sizeBefore;
+      this.sizeAfter = sizeAfter;
+      this.elementCount = Math.abs(sizeAfter - sizeBefore);
+
+      commit();
+    }
+  }
+
+}
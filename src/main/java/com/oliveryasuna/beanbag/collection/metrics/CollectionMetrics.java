@@ -0,0 +1,155 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.metrics;
+
+import com.oliveryasuna.beanbag.collection.ConcurrentWeakIdentityMap;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CollectionMetrics implements CollectionInstrumentation {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public CollectionMetrics() {
+    super();
+
+    for(final MutationType type : MutationType.values()) {
+      mutationCounts.put(type, new LongAdder());
+    }
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Map<MutationType, LongAdder> mutationCounts = new EnumMap<>(MutationType.class);
+
+  private final Map<Class<?>, LongAdder> eventCounts = new ConcurrentHashMap<>();
+
+  private final ConcurrentWeakIdentityMap<Object, LatencyHistogram> listenerLatencies = new ConcurrentWeakIdentityMap<>();
+
+  // CollectionInstrumentation methods
+  //--------------------------------------------------
+
+  @Override
+  public void mutated(final MutationType type, final int count) {
+    mutationCounts.get(type).add(count);
+  }
+
+  @Override
+  public void eventFired(final Class<?> listenerType) {
+    eventCounts.computeIfAbsent(listenerType, key -> new LongAdder()).increment();
+  }
+
+  @Override
+  public void listenerCompleted(final Object listener, final long nanos) {
+    listenerLatencies.computeIfAbsent(listener, key -> new LatencyHistogram()).record(nanos);
+  }
+
+  // Methods
+  //--------------------------------------------------
+
+  public Snapshot snapshot() {
+    final Map<MutationType, Long> mutations = new EnumMap<>(MutationType.class);
+    mutationCounts.forEach((type, count) -> mutations.put(type, count.sum()));
+
+    final Map<Class<?>, Long> events = new HashMap<>();
+    eventCounts.forEach((type, count) -> events.put(type, count.sum()));
+
+    final Map<Object, LatencyHistogram.Snapshot> latencies = new IdentityHashMap<>();
+
+    listenerLatencies.forEach((listener, histogram) -> latencies.put(listener, histogram.snapshot()));
+
+    return new Snapshot(mutations, events, latencies);
+  }
+
+  // Snapshot
+  //--------------------------------------------------
+
+  public static final class Snapshot {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Snapshot(final Map<MutationType, Long> mutationCounts, final Map<Class<?>, Long> eventCounts,
+        final Map<Object, LatencyHistogram.Snapshot> listenerLatencies) {
+      super();
+
+      this.mutationCounts = Collections.unmodifiableMap(mutationCounts);
+      this.eventCounts = Collections.unmodifiableMap(eventCounts);
+      this.listenerLatencies = Collections.unmodifiableMap(listenerLatencies);
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final Map<MutationType, Long> mutationCounts;
+
+    private final Map<Class<?>, Long> eventCounts;
+
+    private final Map<Object, LatencyHistogram.Snapshot> listenerLatencies;
+
+    // Methods
+    //--------------------------------------------------
+
+    public long getMutationCount(final MutationType type) {
+      return mutationCounts.getOrDefault(type, 0L);
+    }
+
+    public long getEventCount(final Class<?> listenerType) {
+      return eventCounts.getOrDefault(listenerType, 0L);
+    }
+
+    public LatencyHistogram.Snapshot getListenerLatency(final Object listener) {
+      return listenerLatencies.get(listener);
+    }
+
+    // Getters/setters
+    //--------------------------------------------------
+
+    public Map<MutationType, Long> getMutationCounts() {
+      return mutationCounts;
+    }
+
+    public Map<Class<?>, Long> getEventCounts() {
+      return eventCounts;
+    }
+
+    public Map<Object, LatencyHistogram.Snapshot> getListenerLatencies() {
+      return listenerLatencies;
+    }
+
+    // Object methods
+    //--------------------------------------------------
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("mutationCounts", getMutationCounts())
+          .append("eventCounts", getEventCounts())
+          .append("listenerLatencies", getListenerLatencies())
+          .toString();
+    }
+
+  }
+
+}
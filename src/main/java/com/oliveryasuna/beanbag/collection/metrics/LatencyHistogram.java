@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.metrics;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LatencyHistogram {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int BUCKETS = 64;
+
+  // Constructors
+  //--------------------------------------------------
+
+  public LatencyHistogram() {
+    super();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+  private final LongAdder count = new LongAdder();
+
+  private final LongAdder totalNanos = new LongAdder();
+
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+  // Methods
+  //--------------------------------------------------
+
+  public void record(final long nanos) {
+    final long value = Math.max(0L, nanos);
+
+    buckets.incrementAndGet(bucketOf(value));
+    count.increment();
+    totalNanos.add(value);
+    maxNanos.accumulate(value);
+  }
+
+  public Snapshot snapshot() {
+    final long[] counts = new long[BUCKETS];
+
+    for(int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets.get(i);
+    }
+
+    return new Snapshot(counts, count.sum(), totalNanos.sum(), maxNanos.get());
+  }
+
+  private static int bucketOf(final long nanos) {
+    return Math.max(0, (BUCKETS - 1) - Long.numberOfLeadingZeros(nanos));
+  }
+
+  // Snapshot
+  //--------------------------------------------------
+
+  public static final class Snapshot {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Snapshot(final long[] buckets, final long count, final long totalNanos, final long maxNanos) {
+      super();
+
+      this.buckets = buckets;
+      this.count = count;
+      this.totalNanos = totalNanos;
+      this.maxNanos = maxNanos;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final long[] buckets;
+
+    private final long count;
+
+    private final long totalNanos;
+
+    private final long maxNanos;
+
+    // Methods
+    //--------------------------------------------------
+
+    public long percentileNanos(final double percentile) {
+      if(percentile < 0.0 || percentile > 100.0) {
+        throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+      }
+
+      final long total = Math.max(count, 1L);
+      final long rank = (long)Math.ceil(percentile / 100.0 * total);
+
+      long seen = 0L;
+
+      for(int i = 0; i < buckets.length; i++) {
+        seen += buckets[i];
+
+        if(seen >= rank && buckets[i] > 0L) {
+          return Math.min((i == BUCKETS - 1 ? Long.MAX_VALUE : (2L << i) - 1L), maxNanos);
+        }
+      }
+
+      return maxNanos;
+    }
+
+    // Getters/setters
+    //--------------------------------------------------
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getTotalNanos() {
+      return totalNanos;
+    }
+
+    public long getMaxNanos() {
+      return maxNanos;
+    }
+
+    public double getMeanNanos() {
+      return (count == 0L ? 0.0 : (double)totalNanos / count);
+    }
+
+    // Object methods
+    //--------------------------------------------------
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("count", getCount())
+          .append("mean", getMeanNanos())
+          .append("p50", percentileNanos(50.0))
+          .append("p99", percentileNanos(99.0))
+          .append("max", getMaxNanos())
+          .toString();
+    }
+
+  }
+
+}
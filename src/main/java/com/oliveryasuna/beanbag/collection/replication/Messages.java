@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.replication;
+
+import com.oliveryasuna.beanbag.collection.codec.ElementCodec;
+import com.oliveryasuna.commons.language.exception.UtilityClassException;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+final class Messages {
+
+  // Static fields
+  //--------------------------------------------------
+
+  static final byte HELLO = 1;
+
+  static final byte SNAPSHOT = 2;
+
+  static final byte DELTA = 3;
+
+  // Length (int) followed by the message type (byte).
+  static final int HEADER_SIZE = 5;
+
+  static final int HELLO_SIZE = HEADER_SIZE + Long.BYTES;
+
+  static final long NO_VERSION = -1L;
+
+  // Methods
+  //--------------------------------------------------
+
+  static ByteBuffer header(final byte type, final int payloadSize) {
+    return ByteBuffer.allocate(HEADER_SIZE)
+        .putInt(1 + payloadSize)
+        .put(type)
+        .flip();
+  }
+
+  static ByteBuffer hello(final long version) {
+    return ByteBuffer.allocate(HELLO_SIZE)
+        .putInt(1 + Long.BYTES)
+        .put(HELLO)
+        .putLong(version)
+        .flip();
+  }
+
+  static <T> ByteBuffer snapshot(final long version, final Collection<T> elements, final ElementCodec<T> codec) {
+    int payloadSize = Long.BYTES + Integer.BYTES;
+
+    for(final T element : elements) {
+      payloadSize += codec.encodedSize(element);
+    }
+
+    final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payloadSize)
+        .putInt(1 + payloadSize)
+        .put(SNAPSHOT)
+        .putLong(version)
+        .putInt(elements.size());
+
+    for(final T element : elements) {
+      codec.encode(element, buffer);
+    }
+
+    return buffer.flip();
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private Messages() {
+    super();
+
+    throw new UtilityClassException();
+  }
+
+}
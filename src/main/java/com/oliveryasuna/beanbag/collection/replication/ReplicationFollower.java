@@ -0,0 +1,290 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.replication;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableList;
+import com.oliveryasuna.beanbag.collection.codec.DeltaCodec;
+import com.oliveryasuna.beanbag.collection.codec.ElementCodec;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public final class ReplicationFollower<T> implements Closeable {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+  private static final Duration DEFAULT_RECONNECT_DELAY = Duration.ofMillis(100L);
+
+  // Constructors
+  //--------------------------------------------------
+
+  public ReplicationFollower(final InetSocketAddress leaderAddress, final DeltaCodec<T> codec, final List<T> replica) throws IOException {
+    this(leaderAddress, codec, replica, Messages.NO_VERSION, DEFAULT_RECONNECT_DELAY);
+  }
+
+  public ReplicationFollower(final InetSocketAddress leaderAddress, final DeltaCodec<T> codec, final List<T> replica, final long version,
+      final Duration reconnectDelay) throws IOException {
+    super();
+
+    this.leaderAddress = leaderAddress;
+    this.codec = codec;
+    this.replica = replica;
+    this.version = version;
+    this.reconnectDelay = reconnectDelay;
+
+    this.selector = Selector.open();
+
+    this.thread = new Thread(this::run, "beanbag-replication-follower");
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final InetSocketAddress leaderAddress;
+
+  private final DeltaCodec<T> codec;
+
+  private final List<T> replica;
+
+  private final Duration reconnectDelay;
+
+  private final Selector selector;
+
+  private final Thread thread;
+
+  private final Object versionLock = new Object();
+
+  private volatile long version;
+
+  private volatile boolean closed;
+
+  // Event loop
+  //--------------------------------------------------
+
+  private void run() {
+    try {
+      while(!closed) {
+        try {
+          session();
+        } catch(final IOException | RuntimeException e) {
+          // Reconnect below and resume from the last applied version.
+        }
+
+        if(!closed) {
+          Thread.sleep(reconnectDelay.toMillis());
+        }
+      }
+    } catch(final InterruptedException | ClosedSelectorException e) {
+      // Closed.
+    } finally {
+      try {
+        selector.close();
+      } catch(final IOException e) {
+        // Ignored.
+      }
+    }
+  }
+
+  private void session() throws IOException {
+    try(final SocketChannel channel = SocketChannel.open()) {
+      channel.configureBlocking(false);
+      channel.connect(leaderAddress);
+
+      final SelectionKey key = channel.register(selector, SelectionKey.OP_CONNECT);
+      final ByteBuffer hello = Messages.hello(version);
+
+      ByteBuffer inbound = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+      while(!closed) {
+        selector.select();
+
+        final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+
+        if(!keys.hasNext()) {
+          continue;
+        }
+
+        keys.next();
+        keys.remove();
+
+        if(key.isConnectable() && channel.finishConnect()) {
+          key.interestOps(SelectionKey.OP_WRITE | SelectionKey.OP_READ);
+        }
+
+        if(key.isValid() && key.isWritable()) {
+          channel.write(hello);
+
+          if(!hello.hasRemaining()) {
+            key.interestOps(SelectionKey.OP_READ);
+          }
+        }
+
+        if(key.isValid() && key.isReadable()) {
+          if(channel.read(inbound) < 0) {
+            throw new EOFException("Leader closed the connection.");
+          }
+
+          inbound.flip();
+
+          final int needed = process(inbound);
+
+          inbound.compact();
+
+          if(needed > inbound.capacity()) {
+            inbound = ByteBuffer.allocate(Integer.highestOneBit(needed - 1) << 1).put(inbound.flip());
+          }
+        }
+      }
+    }
+  }
+
+  // Returns the size of the first incomplete message, or zero.
+  private int process(final ByteBuffer inbound) throws IOException {
+    while(inbound.remaining() >= Integer.BYTES) {
+      final int length = inbound.getInt(inbound.position());
+
+      if(inbound.remaining() < Integer.BYTES + length) {
+        return (Integer.BYTES + length);
+      }
+
+      final ByteBuffer message = inbound.slice();
+
+      message.limit(Integer.BYTES + length);
+      message.position(Integer.BYTES);
+
+      inbound.position(inbound.position() + Integer.BYTES + length);
+
+      switch(message.get()) {
+        case Messages.SNAPSHOT:
+          applySnapshot(message);
+          break;
+        case Messages.DELTA:
+          applyDelta(message);
+          break;
+        default:
+          throw new IOException("Unexpected message from leader.");
+      }
+    }
+
+    return 0;
+  }
+
+  private void applySnapshot(final ByteBuffer message) {
+    final long snapshotVersion = message.getLong();
+    final int count = message.getInt();
+    final ElementCodec<T> elementCodec = codec.getElementCodec();
+    final List<T> elements = new ArrayList<>(count);
+
+    for(int i = 0; i < count; i++) {
+      elements.add(elementCodec.decode(message));
+    }
+
+    if(replica instanceof AbstractObservableList) {
+      ((AbstractObservableList<T, ?, ?>)replica).setAll(elements);
+    } else {
+      replica.clear();
+      replica.addAll(elements);
+    }
+
+    advance(snapshotVersion);
+  }
+
+  private void applyDelta(final ByteBuffer message) throws IOException {
+    if(codec.peekFromVersion(message) != version) {
+      throw new IOException("Replication stream is out of sequence.");
+    }
+
+    advance(codec.apply(message, replica));
+  }
+
+  private void advance(final long version) {
+    synchronized(versionLock) {
+      this.version = version;
+
+      versionLock.notifyAll();
+    }
+  }
+
+  public boolean awaitVersion(final long version, final Duration timeout) throws InterruptedException {
+    final long deadline = System.nanoTime() + timeout.toNanos();
+
+    synchronized(versionLock) {
+      while(this.version < version) {
+        final long remaining = deadline - System.nanoTime();
+
+        if(remaining <= 0L) {
+          return false;
+        }
+
+        versionLock.wait(Math.max(1L, remaining / 1_000_000L));
+      }
+    }
+
+    return true;
+  }
+
+  // Closeable methods
+  //--------------------------------------------------
+
+  @Override
+  public void close() {
+    if(closed) {
+      return;
+    }
+
+    closed = true;
+
+    selector.wakeup();
+    thread.interrupt();
+
+    try {
+      thread.join();
+    } catch(final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public List<T> getReplica() {
+    return replica;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+}
@@ -0,0 +1,499 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.replication;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableList;
+import com.oliveryasuna.beanbag.collection.changelog.Change;
+import com.oliveryasuna.beanbag.collection.changelog.Delta;
+import com.oliveryasuna.beanbag.collection.codec.DeltaCodec;
+import com.oliveryasuna.beanbag.collection.listener.ListElementAddedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementChangedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementMovedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementRemovedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementsChangedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementsPermutedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementsRemovedListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class ReplicationLeader<T> implements Closeable {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int DEFAULT_CHANGE_LOG_CAPACITY = 4096;
+
+  private static final int DEFAULT_BACKLOG_SIZE = 256;
+
+  private static final long MAX_PENDING_BYTES = 16L * 1024L * 1024L;
+
+  // Static methods
+  //--------------------------------------------------
+
+  private static <T, LST extends List<T>, SUB extends AbstractObservableList<T, LST, SUB>> List<Runnable> attach(
+      final AbstractObservableList<T, LST, SUB> list, final Runnable capture) {
+    final ListElementAddedListener<T, LST, SUB> added = (event -> capture.run());
+    final ListElementRemovedListener<T, LST, SUB> removed = (event -> capture.run());
+    final ListElementChangedListener<T, LST, SUB> changed = (event -> capture.run());
+    final ListElementMovedListener<T, LST, SUB> moved = (event -> capture.run());
+    final ListElementsPermutedListener<T, LST, SUB> permuted = (event -> capture.run());
+    final ListElementsChangedListener<T, LST, SUB> bulkChanged = (event -> capture.run());
+    final ListElementsRemovedListener<T, LST, SUB> bulkRemoved = (event -> capture.run());
+
+    list.addElementAddedListener(added);
+    list.addElementRemovedListener(removed);
+    list.addElementChangedListener(changed);
+    list.addElementMovedListener(moved);
+    list.addElementsPermutedListener(permuted);
+    list.addElementsChangedListener(bulkChanged);
+    list.addElementsRemovedListener(bulkRemoved);
+
+    return List.of(
+        () -> list.removedElementAddedListener(added),
+        () -> list.removedElementRemovedListener(removed),
+        () -> list.removeElementChangedListener(changed),
+        () -> list.removeElementMovedListener(moved),
+        () -> list.removeElementsPermutedListener(permuted),
+        () -> list.removeElementsChangedListener(bulkChanged),
+        () -> list.removeElementsRemovedListener(bulkRemoved));
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  public ReplicationLeader(final AbstractObservableList<T, ?, ?> list, final DeltaCodec<T> codec, final InetSocketAddress address) throws IOException {
+    this(list, codec, address, DEFAULT_BACKLOG_SIZE);
+  }
+
+  public ReplicationLeader(final AbstractObservableList<T, ?, ?> list, final DeltaCodec<T> codec, final InetSocketAddress address,
+      final int backlogSize) throws IOException {
+    super();
+
+    if(backlogSize <= 0) {
+      throw new IllegalArgumentException("Backlog size must be positive.");
+    }
+
+    if(list.getChangeLogCapacity() == 0) {
+      list.setChangeLogCapacity(DEFAULT_CHANGE_LOG_CAPACITY);
+    }
+
+    this.list = list;
+    this.codec = codec;
+    this.backlogSize = backlogSize;
+    this.shadow = new ArrayList<>(list);
+    this.capturedVersion = list.getVersion();
+    this.flushedVersion = capturedVersion;
+
+    this.selector = Selector.open();
+    this.server = ServerSocketChannel.open();
+
+    try {
+      server.configureBlocking(false);
+      server.bind(address);
+      server.register(selector, SelectionKey.OP_ACCEPT);
+    } catch(final IOException e) {
+      server.close();
+      selector.close();
+
+      throw e;
+    }
+
+    this.localAddress = (InetSocketAddress)server.getLocalAddress();
+    this.detachers = attach(list, this::capture);
+
+    this.thread = new Thread(this::run, "beanbag-replication-leader");
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final AbstractObservableList<T, ?, ?> list;
+
+  private final DeltaCodec<T> codec;
+
+  private final int backlogSize;
+
+  private final Object lock = new Object();
+
+  private List<T> shadow;
+
+  private final List<Change<T>> pending = new ArrayList<>();
+
+  private final Deque<Batch> backlog = new ArrayDeque<>();
+
+  private long capturedVersion;
+
+  private long flushedVersion;
+
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+  private final Selector selector;
+
+  private final ServerSocketChannel server;
+
+  private final InetSocketAddress localAddress;
+
+  private final List<Runnable> detachers;
+
+  private final Thread thread;
+
+  private final List<Connection> connections = new ArrayList<>();
+
+  private final ByteBuffer discard = ByteBuffer.allocate(64);
+
+  private volatile boolean closed;
+
+  // Capture
+  //--------------------------------------------------
+
+  // Runs on the mutating thread, so the collection is read consistently.
+  private void capture() {
+    synchronized(lock) {
+      final Delta<T> delta = list.changesSince(capturedVersion);
+
+      if(delta.isResyncRequired()) {
+        shadow = new ArrayList<>(list);
+
+        pending.clear();
+        backlog.clear();
+
+        flushedVersion = list.getVersion();
+      } else {
+        for(final Change<T> change : delta.getChanges()) {
+          change.applyTo(shadow);
+
+          pending.add(change);
+        }
+      }
+
+      capturedVersion = list.getVersion();
+    }
+
+    if(!flushScheduled.getAndSet(true)) {
+      selector.wakeup();
+    }
+  }
+
+  // Event loop
+  //--------------------------------------------------
+
+  private void run() {
+    try {
+      while(!closed) {
+        selector.select();
+
+        if(flushScheduled.getAndSet(false)) {
+          flush();
+        }
+
+        final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+
+        while(keys.hasNext()) {
+          final SelectionKey key = keys.next();
+
+          keys.remove();
+
+          if(!key.isValid()) {
+            continue;
+          }
+
+          if(key.isAcceptable()) {
+            accept();
+            continue;
+          }
+
+          final Connection connection = (Connection)key.attachment();
+
+          try {
+            if(key.isReadable()) {
+              read(connection);
+            }
+
+            if(key.isValid() && key.isWritable()) {
+              write(connection);
+            }
+          } catch(final IOException e) {
+            drop(connection);
+          }
+        }
+      }
+    } catch(final IOException | ClosedSelectorException e) {
+      // The leader is unusable; followers will keep retrying until it is replaced.
+    } finally {
+      for(final Connection connection : new ArrayList<>(connections)) {
+        drop(connection);
+      }
+
+      try {
+        server.close();
+        selector.close();
+      } catch(final IOException e) {
+        // Ignored.
+      }
+    }
+  }
+
+  private void accept() throws IOException {
+    final SocketChannel channel = server.accept();
+
+    if(channel == null) {
+      return;
+    }
+
+    channel.configureBlocking(false);
+
+    final Connection connection = new Connection(channel);
+
+    connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+
+    connections.add(connection);
+  }
+
+  private void read(final Connection connection) throws IOException {
+    if(connection.ready) {
+      discard.clear();
+
+      if(connection.channel.read(discard) < 0) {
+        drop(connection);
+      }
+
+      return;
+    }
+
+    if(connection.channel.read(connection.hello) < 0) {
+      drop(connection);
+      return;
+    }
+
+    if(connection.hello.hasRemaining()) {
+      return;
+    }
+
+    connection.hello.flip();
+
+    if(connection.hello.getInt() != 1 + Long.BYTES || connection.hello.get() != Messages.HELLO) {
+      drop(connection);
+      return;
+    }
+
+    connection.version = connection.hello.getLong();
+    connection.ready = true;
+
+    flush();
+  }
+
+  private void write(final Connection connection) throws IOException {
+    final Deque<ByteBuffer> outbound = connection.outbound;
+
+    while(!outbound.isEmpty()) {
+      connection.channel.write(outbound.toArray(new ByteBuffer[0]));
+
+      while(!outbound.isEmpty() && !outbound.peekFirst().hasRemaining()) {
+        connection.pendingBytes -= outbound.pollFirst().limit();
+      }
+
+      if(!outbound.isEmpty()) {
+        break;
+      }
+    }
+
+    connection.key.interestOps(SelectionKey.OP_READ | (outbound.isEmpty() ? 0 : SelectionKey.OP_WRITE));
+  }
+
+  private void drop(final Connection connection) {
+    connections.remove(connection);
+
+    try {
+      connection.channel.close();
+    } catch(final IOException e) {
+      // Ignored.
+    }
+  }
+
+  // Batching
+  //--------------------------------------------------
+
+  private void flush() {
+    synchronized(lock) {
+      if(flushedVersion != capturedVersion) {
+        final ByteBuffer frame = codec.encode(Delta.of(flushedVersion, capturedVersion, new ArrayList<>(pending)));
+
+        backlog.addLast(new Batch(flushedVersion, frame));
+
+        while(backlog.size() > backlogSize) {
+          backlog.removeFirst();
+        }
+
+        pending.clear();
+
+        flushedVersion = capturedVersion;
+      }
+
+      for(final Connection connection : new ArrayList<>(connections)) {
+        if(connection.ready && connection.version != flushedVersion) {
+          sync(connection);
+        }
+      }
+    }
+  }
+
+  private void sync(final Connection connection) {
+    boolean found = false;
+
+    for(final Batch batch : backlog) {
+      found |= (batch.fromVersion == connection.version);
+
+      if(found) {
+        connection.enqueue(Messages.header(Messages.DELTA, batch.frame.remaining()));
+        connection.enqueue(batch.frame.duplicate());
+      }
+    }
+
+    if(!found) {
+      connection.enqueue(Messages.snapshot(flushedVersion, shadow, codec.getElementCodec()));
+    }
+
+    connection.version = flushedVersion;
+
+    if(connection.pendingBytes > MAX_PENDING_BYTES) {
+      // The follower cannot keep up; it will reconnect and catch up, or receive a snapshot.
+      drop(connection);
+    } else {
+      connection.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+    }
+  }
+
+  // Closeable methods
+  //--------------------------------------------------
+
+  @Override
+  public void close() {
+    if(closed) {
+      return;
+    }
+
+    closed = true;
+
+    detachers.forEach(Runnable::run);
+
+    selector.wakeup();
+
+    try {
+      thread.join();
+    } catch(final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public InetSocketAddress getLocalAddress() {
+    return localAddress;
+  }
+
+  public long getVersion() {
+    synchronized(lock) {
+      return capturedVersion;
+    }
+  }
+
+  // Batch
+  //--------------------------------------------------
+
+  private static final class Batch {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Batch(final long fromVersion, final ByteBuffer frame) {
+      super();
+
+      this.fromVersion = fromVersion;
+      this.frame = frame;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final long fromVersion;
+
+    private final ByteBuffer frame;
+
+  }
+
+  // Connection
+  //--------------------------------------------------
+
+  private static final class Connection {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Connection(final SocketChannel channel) {
+      super();
+
+      this.channel = channel;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final SocketChannel channel;
+
+    private SelectionKey key;
+
+    private final ByteBuffer hello = ByteBuffer.allocate(Messages.HELLO_SIZE);
+
+    private final Deque<ByteBuffer> outbound = new ArrayDeque<>();
+
+    private long pendingBytes;
+
+    private long version = Messages.NO_VERSION;
+
+    private boolean ready;
+
+    // Methods
+    //--------------------------------------------------
+
+    private void enqueue(final ByteBuffer buffer) {
+      outbound.addLast(buffer);
+
+      pendingBytes += buffer.remaining();
+    }
+
+  }
+
+}
@@ -0,0 +1,532 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.undo;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableList;
+import com.oliveryasuna.beanbag.collection.changelog.Change;
+import com.oliveryasuna.beanbag.collection.listener.BulkMutationObserver;
+import com.oliveryasuna.beanbag.collection.listener.ListElementAddedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementChangedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementMovedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementRemovedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementsChangedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementsPermutedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementsRemovedListener;
+import com.oliveryasuna.beanbag.collection.metrics.MutationType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class UndoManager<T, LST extends List<T>, SRC extends AbstractObservableList<T, LST, SRC>> implements AutoCloseable {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public UndoManager(final SRC source, final int maxSteps, final int maxOperations) {
+    super();
+
+    if(maxSteps < 1 || maxOperations < 1) {
+      throw new IllegalArgumentException("Budgets must be positive.");
+    }
+
+    this.source = Objects.requireNonNull(source);
+    this.maxSteps = maxSteps;
+    this.maxOperations = maxOperations;
+
+    source.addElementAddedListener(sourceAddedListener);
+    source.addElementRemovedListener(sourceRemovedListener);
+    source.addElementChangedListener(sourceChangedListener);
+    source.addElementMovedListener(sourceMovedListener);
+    source.addElementsPermutedListener(sourcePermutedListener);
+    source.addElementsChangedListener(sourceBulkChangedListener);
+    source.addElementsRemovedListener(sourceBulkRemovedListener);
+    source.addBulkMutationObserver(sourceBulkObserver);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final SRC source;
+
+  private final int maxSteps;
+
+  private final int maxOperations;
+
+  private final Deque<List<Change<T>>> undoSteps = new ArrayDeque<>();
+
+  private final Deque<List<Change<T>>> redoSteps = new ArrayDeque<>();
+
+  private int operations;
+
+  private int batchDepth;
+
+  private List<Change<T>> batch;
+
+  private boolean applying;
+
+  // Set steps can only absorb later sets while nothing else has been recorded since.
+  private boolean lastStepMergeable;
+
+  private final ListElementAddedListener<T, LST, SRC> sourceAddedListener =
+      (event -> record(Change.added(event.getElement(), event.getIndex())));
+
+  private final ListElementRemovedListener<T, LST, SRC> sourceRemovedListener =
+      (event -> record(Change.removed(event.getElement(), event.getIndex())));
+
+  private final ListElementChangedListener<T, LST, SRC> sourceChangedListener =
+      (event -> record(Change.changed(event.getNewElement(), event.getOldElement(), event.getIndex())));
+
+  private final ListElementMovedListener<T, LST, SRC> sourceMovedListener =
+      (event -> record(Change.moved(event.getElement(), event.getFromIndex(), event.getToIndex())));
+
+  private final ListElementsPermutedListener<T, LST, SRC> sourcePermutedListener =
+      (event -> record(Change.permuted(event.getPermutation())));
+
+  private final ListElementsChangedListener<T, LST, SRC> sourceBulkChangedListener = (event -> {
+    final List<Change<T>> changes = new ArrayList<>();
+
+    for(int i = 0; i < event.getNewElements().size(); i++) {
+      final T newElement = event.getNewElements().get(i);
+      final T oldElement = event.getOldElements().get(i);
+
+      if(newElement != oldElement) {
+        changes.add(Change.changed(newElement, oldElement, event.getFromIndex() + i));
+      }
+    }
+
+    record(changes);
+  });
+
+  private final ListElementsRemovedListener<T, LST, SRC> sourceBulkRemovedListener = (event -> {
+    final List<Change<T>> changes = new ArrayList<>(event.getElements().size());
+
+    for(final T element : event.getElements()) {
+      changes.add(Change.removed(element, event.getFromIndex()));
+    }
+
+    record(changes);
+  });
+
+  // Bulk calls such as addAll or clear fire one event per element; bracketing them keeps each call a single step.
+  private final BulkMutationObserver sourceBulkObserver = new BulkMutationObserver() {
+
+    @Override
+    public void bulkMutationStarted() {
+      if(!applying) {
+        beginBatch();
+      }
+    }
+
+    @Override
+    public void bulkMutationCompleted() {
+      if(!applying) {
+        endBatch();
+      }
+    }
+
+  };
+
+  // Recording
+  //--------------------------------------------------
+
+  private void record(final Change<T> change) {
+    if(applying) {
+      return;
+    }
+
+    discardRedo();
+
+    if(batchDepth > 0) {
+      if(!mergeSet(batch, change)) {
+        batch.add(change);
+      }
+
+      return;
+    }
+
+    if(lastStepMergeable && change.getType() == MutationType.CHANGED) {
+      final List<Change<T>> last = undoSteps.peekLast();
+      final int before = last.size();
+
+      if(mergeSet(last, change)) {
+        operations += (last.size() - before);
+
+        if(last.isEmpty()) {
+          undoSteps.pollLast();
+
+          lastStepMergeable = false;
+        }
+
+        return;
+      }
+    }
+
+    final List<Change<T>> step = new ArrayList<>(1);
+
+    step.add(change);
+
+    commit(step);
+
+    lastStepMergeable = (change.getType() == MutationType.CHANGED);
+  }
+
+  private void record(final List<Change<T>> changes) {
+    if(applying || changes.isEmpty()) {
+      return;
+    }
+
+    discardRedo();
+
+    if(batchDepth > 0) {
+      batch.addAll(changes);
+    } else {
+      commit(changes);
+
+      lastStepMergeable = false;
+    }
+  }
+
+  // Folds a set into the last operation when it overwrites the same slot; drops both when the slot ends up unchanged.
+  private static <T> boolean mergeSet(final List<Change<T>> step, final Change<T> change) {
+    if(step.isEmpty() || change.getType() != MutationType.CHANGED) {
+      return false;
+    }
+
+    final int lastIndex = step.size() - 1;
+    final Change<T> last = step.get(lastIndex);
+
+    if(last.getType() != MutationType.CHANGED || last.getIndex() != change.getIndex() || last.getNewElement() != change.getOldElement()) {
+      return false;
+    }
+
+    if(change.getNewElement() == last.getOldElement()) {
+      step.remove(lastIndex);
+    } else {
+      step.set(lastIndex, Change.changed(change.getNewElement(), last.getOldElement(), change.getIndex()));
+    }
+
+    return true;
+  }
+
+  private void commit(final List<Change<T>> step) {
+    undoSteps.addLast(step);
+
+    operations += step.size();
+
+    while(!undoSteps.isEmpty() && (undoSteps.size() > maxSteps || operations > maxOperations)) {
+      operations -= undoSteps.pollFirst().size();
+    }
+  }
+
+  private void discardRedo() {
+    for(final List<Change<T>> step : redoSteps) {
+      operations -= step.size();
+    }
+
+    redoSteps.clear();
+  }
+
+  // Batching
+  //--------------------------------------------------
+
+  public void beginBatch() {
+    if(batchDepth++ == 0) {
+      batch = new ArrayList<>();
+    }
+  }
+
+  public void endBatch() {
+    if(batchDepth == 0) {
+      throw new IllegalStateException("No batch in progress.");
+    }
+
+    if(--batchDepth == 0) {
+      final List<Change<T>> step = batch;
+
+      batch = null;
+
+      if(!step.isEmpty()) {
+        commit(step);
+
+        lastStepMergeable = false;
+      }
+    }
+  }
+
+  public void batch(final Runnable mutation) {
+    beginBatch();
+
+    try {
+      mutation.run();
+    } finally {
+      endBatch();
+    }
+  }
+
+  // Undo/redo
+  //--------------------------------------------------
+
+  public boolean undo() {
+    checkNotBatching();
+
+    final List<Change<T>> step = undoSteps.pollLast();
+
+    if(step == null) {
+      return false;
+    }
+
+    final List<Change<T>> inverse = new ArrayList<>(step.size());
+
+    for(int i = step.size() - 1; i >= 0; i--) {
+      inverse.add(step.get(i).inverse());
+    }
+
+    apply(inverse);
+
+    redoSteps.addLast(step);
+
+    lastStepMergeable = false;
+
+    return true;
+  }
+
+  public boolean redo() {
+    checkNotBatching();
+
+    final List<Change<T>> step = redoSteps.pollLast();
+
+    if(step == null) {
+      return false;
+    }
+
+    apply(step);
+
+    undoSteps.addLast(step);
+
+    lastStepMergeable = false;
+
+    return true;
+  }
+
+  public void clear() {
+    undoSteps.clear();
+    redoSteps.clear();
+
+    operations = 0;
+    lastStepMergeable = false;
+  }
+
+  private void checkNotBatching() {
+    if(batchDepth > 0) {
+      throw new IllegalStateException("Cannot undo or redo during a batch.");
+    }
+  }
+
+  // Replays changes, collapsing contiguous insert and remove runs into addAll/removeRange calls.
+  private void apply(final List<Change<T>> changes) {
+    applying = true;
+
+    try {
+      int i = 0;
+
+      while(i < changes.size()) {
+        final Change<T> change = changes.get(i);
+        final int index = change.getIndex();
+
+        if(change.getType() == MutationType.ADDED) {
+          final int ascending = runLength(changes, i, MutationType.ADDED, 1);
+          final int repeated = (ascending > 1 ? 1 : runLength(changes, i, MutationType.ADDED, 0));
+
+          if(ascending > 1 || repeated > 1) {
+            final int length = Math.max(ascending, repeated);
+            final List<T> elements = new ArrayList<>(length);
+
+            for(int j = i; j < i + length; j++) {
+              elements.add(changes.get(j).getNewElement());
+            }
+
+            if(repeated > 1) {
+              // Each element was inserted in front of the previous one.
+              Collections.reverse(elements);
+            }
+
+            source.addAll(index, elements);
+
+            i += length;
+            continue;
+          }
+        } else if(change.getType() == MutationType.REMOVED) {
+          final int repeated = runLength(changes, i, MutationType.REMOVED, 0);
+          final int descending = (repeated > 1 ? 1 : runLength(changes, i, MutationType.REMOVED, -1));
+
+          if(repeated > 1) {
+            source.removeRange(index, index + repeated);
+
+            i += repeated;
+            continue;
+          } else if(descending > 1) {
+            source.removeRange(index - descending + 1, index + 1);
+
+            i += descending;
+            continue;
+          }
+        } else if(change.getType() == MutationType.CHANGED) {
+          final int length = changedRunLength(changes, i);
+
+          if(length > 1) {
+            applyChanged(changes.subList(i, i + length));
+
+            i += length;
+            continue;
+          }
+        } else if(change.getType() == MutationType.MOVED) {
+          source.move(index, change.getToIndex());
+
+          i++;
+          continue;
+        } else if(change.getType() == MutationType.PERMUTED) {
+          source.permute(change.getPermutation());
+
+          i++;
+          continue;
+        }
+
+        change.applyTo(source);
+
+        i++;
+      }
+    } finally {
+      applying = false;
+    }
+  }
+
+  // Writes a run of sets to distinct slots back as one range, so listeners see a single bulk change.
+  private void applyChanged(final List<Change<T>> changes) {
+    int fromIndex = Integer.MAX_VALUE;
+    int toIndex = Integer.MIN_VALUE;
+
+    for(final Change<T> change : changes) {
+      fromIndex = Math.min(fromIndex, change.getIndex());
+      toIndex = Math.max(toIndex, change.getIndex() + 1);
+    }
+
+    final List<T> elements = new ArrayList<>(toIndex - fromIndex);
+    final Iterator<T> iterator = source.listIterator(fromIndex);
+
+    while(elements.size() < toIndex - fromIndex) {
+      elements.add(iterator.next());
+    }
+
+    for(final Change<T> change : changes) {
+      elements.set(change.getIndex() - fromIndex, change.getNewElement());
+    }
+
+    source.setRange(fromIndex, elements);
+  }
+
+  private static int changedRunLength(final List<? extends Change<?>> changes, final int start) {
+    final Set<Integer> indices = new HashSet<>();
+
+    int length = 0;
+
+    while(start + length < changes.size()) {
+      final Change<?> next = changes.get(start + length);
+
+      if(next.getType() != MutationType.CHANGED || !indices.add(next.getIndex())) {
+        break;
+      }
+
+      length++;
+    }
+
+    return length;
+  }
+
+  private static int runLength(final List<? extends Change<?>> changes, final int start, final MutationType type, final int stride) {
+    final int index = changes.get(start).getIndex();
+
+    int length = 1;
+
+    while(start + length < changes.size()) {
+      final Change<?> next = changes.get(start + length);
+
+      if(next.getType() != type || next.getIndex() != index + stride * length) {
+        break;
+      }
+
+      length++;
+    }
+
+    return length;
+  }
+
+  // AutoCloseable methods
+  //--------------------------------------------------
+
+  @Override
+  public void close() {
+    source.removedElementAddedListener(sourceAddedListener);
+    source.removedElementRemovedListener(sourceRemovedListener);
+    source.removeElementChangedListener(sourceChangedListener);
+    source.removeElementMovedListener(sourceMovedListener);
+    source.removeElementsPermutedListener(sourcePermutedListener);
+    source.removeElementsChangedListener(sourceBulkChangedListener);
+    source.removeElementsRemovedListener(sourceBulkRemovedListener);
+    source.removeBulkMutationObserver(sourceBulkObserver);
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public boolean canUndo() {
+    return !undoSteps.isEmpty();
+  }
+
+  public boolean canRedo() {
+    return !redoSteps.isEmpty();
+  }
+
+  public int getUndoSteps() {
+    return undoSteps.size();
+  }
+
+  public int getRedoSteps() {
+    return redoSteps.size();
+  }
+
+  public int getOperations() {
+    return operations;
+  }
+
+  public int getMaxSteps() {
+    return maxSteps;
+  }
+
+  public int getMaxOperations() {
+    return maxOperations;
+  }
+
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.view;
+
+import java.util.AbstractList;
+import java.util.Comparator;
+import java.util.Objects;
+
+final class OrderStatisticTree<T> extends AbstractList<T> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  OrderStatisticTree(final Comparator<? super T> comparator) {
+    super();
+
+    this.comparator = comparator;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Comparator<? super T> comparator;
+
+  private Node<T> root;
+
+  // Methods
+  //--------------------------------------------------
+
+  void build(final T[] sorted) {
+    root = build(sorted, 0, sorted.length);
+
+    modCount++;
+  }
+
+  int insert(final T element) {
+    final int index = upperBound(element);
+
+    root = insert(root, index, element);
+
+    modCount++;
+
+    return index;
+  }
+
+  T delete(final int index) {
+    Objects.checkIndex(index, size());
+
+    final T element = get(index);
+
+    root = delete(root, index);
+
+    modCount++;
+
+    return element;
+  }
+
+  int lowerBound(final T element) {
+    Node<T> node = root;
+    int index = 0;
+
+    while(node != null) {
+      if(comparator.compare(element, node.element) <= 0) {
+        node = node.left;
+      } else {
+        index += size(node.left) + 1;
+        node = node.right;
+      }
+    }
+
+    return index;
+  }
+
+  int upperBound(final T element) {
+    Node<T> node = root;
+    int index = 0;
+
+    while(node != null) {
+      if(comparator.compare(element, node.element) < 0) {
+        node = node.left;
+      } else {
+        index += size(node.left) + 1;
+        node = node.right;
+      }
+    }
+
+    return index;
+  }
+
+  // List methods
+  //--------------------------------------------------
+
+  @Override
+  public T get(final int index) {
+    Objects.checkIndex(index, size());
+
+    Node<T> node = root;
+    int remaining = index;
+
+    while(true) {
+      final int leftSize = size(node.left);
+
+      if(remaining < leftSize) {
+        node = node.left;
+      } else if(remaining > leftSize) {
+        remaining -= leftSize + 1;
+        node = node.right;
+      } else {
+        return node.element;
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    return size(root);
+  }
+
+  @Override
+  public int indexOf(final Object element) {
+    final T casted;
+    final int lower;
+    final int upper;
+
+    try {
+      casted = (T)element;
+      lower = lowerBound(casted);
+      upper = upperBound(casted);
+    } catch(final ClassCastException | NullPointerException e) {
+      return -1;
+    }
+
+    for(int i = lower; i < upper; i++) {
+      if(Objects.equals(element, get(i))) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  @Override
+  public boolean contains(final Object element) {
+    return (indexOf(element) >= 0);
+  }
+
+  // Tree methods
+  //--------------------------------------------------
+
+  private static <T> Node<T> build(final T[] sorted, final int from, final int to) {
+    if(from >= to) {
+      return null;
+    }
+
+    final int middle = (from + to) >>> 1;
+
+    final Node<T> node = new Node<>(sorted[middle]);
+    node.left = build(sorted, from, middle);
+    node.right = build(sorted, middle + 1, to);
+
+    return update(node);
+  }
+
+  private static <T> Node<T> insert(final Node<T> node, final int index, final T element) {
+    if(node == null) {
+      return new Node<>(element);
+    }
+
+    final int leftSize = size(node.left);
+
+    if(index <= leftSize) {
+      node.left = insert(node.left, index, element);
+    } else {
+      node.right = insert(node.right, index - leftSize - 1, element);
+    }
+
+    return balance(node);
+  }
+
+  private static <T> Node<T> delete(final Node<T> node, final int index) {
+    final int leftSize = size(node.left);
+
+    if(index < leftSize) {
+      node.left = delete(node.left, index);
+    } else if(index > leftSize) {
+      node.right = delete(node.right, index - leftSize - 1);
+    } else {
+      if(node.left == null) return node.right;
+      if(node.right == null) return node.left;
+
+      Node<T> successor = node.right;
+
+      while(successor.left != null) {
+        successor = successor.left;
+      }
+
+      successor.right = delete(node.right, 0);
+      successor.left = node.left;
+
+      return balance(successor);
+    }
+
+    return balance(node);
+  }
+
+  private static <T> Node<T> balance(final Node<T> node) {
+    update(node);
+
+    final int factor = height(node.left) - height(node.right);
+
+    if(factor > 1) {
+      if(height(node.left.left) < height(node.left.right)) {
+        node.left = rotateLeft(node.left);
+      }
+
+      return rotateRight(node);
+    } else if(factor < -1) {
+      if(height(node.right.right) < height(node.right.left)) {
+        node.right = rotateRight(node.right);
+      }
+
+      return rotateLeft(node);
+    }
+
+    return node;
+  }
+
+  private static <T> Node<T> rotateLeft(final Node<T> node) {
+    final Node<T> pivot = node.right;
+
+    node.right = pivot.left;
+    pivot.left = update(node);
+
+    return update(pivot);
+  }
+
+  private static <T> Node<T> rotateRight(final Node<T> node) {
+    final Node<T> pivot = node.left;
+
+    node.left = pivot.right;
+    pivot.right = update(node);
+
+    return update(pivot);
+  }
+
+  private static <T> Node<T> update(final Node<T> node) {
+    node.height = Math.max(height(node.left), height(node.right)) + 1;
+    node.size = size(node.left) + size(node.right) + 1;
+
+    return node;
+  }
+
+  private static int height(final Node<?> node) {
+    return (node != null ? node.height : 0);
+  }
+
+  private static int size(final Node<?> node) {
+    return (node != null ? node.size : 0);
+  }
+
+  // Node
+  //--------------------------------------------------
+
+  private static final class Node<T> {
+
+    // Constructors
+    //--------------------------------------------------
+
+    private Node(final T element) {
+      super();
+
+      this.element = element;
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final T element;
+
+    private Node<T> left;
+
+    private Node<T> right;
+
+    private int height = 1;
+
+    private int size = 1;
+
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.view;
+
+import com.oliveryasuna.beanbag.collection.AbstractObservableCollection;
+import com.oliveryasuna.beanbag.collection.AbstractObservableList;
+import com.oliveryasuna.beanbag.collection.listener.ElementObserver;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+public class SortedObservableList<T> extends AbstractObservableList<T, List<T>, SortedObservableList<T>> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public SortedObservableList(final AbstractObservableCollection<T, ?, ?> source, final Comparator<? super T> comparator) {
+    super(new OrderStatisticTree<>(comparator));
+
+    this.source = source;
+    this.tree = (OrderStatisticTree<T>)getList();
+
+    final T[] elements = (T[])source.toArray();
+    Arrays.sort(elements, comparator);
+
+    tree.build(elements);
+
+    source.addElementObserver(sourceObserver);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final AbstractObservableCollection<T, ?, ?> source;
+
+  private final OrderStatisticTree<T> tree;
+
+  private final ElementObserver<T> sourceObserver = new ElementObserver<>() {
+
+    @Override
+    public void elementAdded(final T element) {
+      sourceElementAdded(element);
+    }
+
+    @Override
+    public void elementRemoved(final T element) {
+      sourceElementRemoved(element);
+    }
+
+    @Override
+    public void elementChanged(final T newElement, final T oldElement) {
+      sourceElementChanged(newElement, oldElement);
+    }
+
+  };
+
+  // Methods
+  //--------------------------------------------------
+
+  public void detach() {
+    source.removeElementObserver(sourceObserver);
+  }
+
+  // Source listener methods
+  //--------------------------------------------------
+
+  protected void sourceElementAdded(final T element) {
+    fireElementAddedEvent(element, tree.insert(element));
+  }
+
+  protected void sourceElementRemoved(final T element) {
+    final int index = tree.indexOf(element);
+
+    if(index < 0) {
+      return;
+    }
+
+    tree.delete(index);
+
+    fireElementRemovedEvent(element, index);
+  }
+
+  protected void sourceElementChanged(final T newElement, final T oldElement) {
+    final int fromIndex = tree.indexOf(oldElement);
+
+    if(fromIndex < 0) {
+      sourceElementAdded(newElement);
+
+      return;
+    }
+
+    tree.delete(fromIndex);
+
+    final int toIndex = tree.insert(newElement);
+
+    if(fromIndex == toIndex) {
+      fireElementChangedEvent(newElement, oldElement, toIndex);
+
+      return;
+    }
+
+    // The changed event carries the new value to observers and the change log; the moved event then repositions it.
+    beginBulkMutation();
+
+    try {
+      fireElementChangedEvent(newElement, oldElement, fromIndex);
+      fireElementMovedEvent(newElement, fromIndex, toIndex);
+    } finally {
+      endBulkMutation();
+    }
+  }
+
+}
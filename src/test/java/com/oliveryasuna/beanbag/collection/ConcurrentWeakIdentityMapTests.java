@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final class ConcurrentWeakIdentityMapTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void concurrentWeakIdentityMap_keysByIdentity() {
+    final ConcurrentWeakIdentityMap<List<Integer>, String> map = new ConcurrentWeakIdentityMap<>();
+    final List<Integer> first = new ArrayList<>(List.of(1));
+    final List<Integer> second = new ArrayList<>(List.of(1));
+
+    assertEquals("first", map.computeIfAbsent(first, key -> "first"));
+    assertEquals("first", map.computeIfAbsent(first, key -> "other"));
+    assertEquals("second", map.computeIfAbsent(second, key -> "second"));
+
+    assertSame("first", map.get(first));
+    assertNull(map.get(new ArrayList<>(List.of(1))));
+
+    final List<String> values = new ArrayList<>();
+    map.forEach((key, value) -> values.add(value));
+
+    assertEquals(2, values.size());
+    assertEquals("first", map.remove(first));
+    assertNull(map.get(first));
+    assertEquals("second", map.get(second));
+  }
+
+}
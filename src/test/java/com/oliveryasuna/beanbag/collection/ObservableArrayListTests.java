@@ -0,0 +1,206 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import com.oliveryasuna.beanbag.collection.listener.ListElementAddedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementChangedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementRemovedListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ObservableArrayListTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void observableArrayList_matchesArrayList() {
+    final Random random = new Random(42);
+
+    final ObservableArrayList<Integer> list = new ObservableArrayList<>();
+    final List<Integer> expected = new ArrayList<>();
+    final List<Integer> mirror = new ArrayList<>();
+
+    list.addElementAddedListener((ListElementAddedListener<Integer, List<Integer>, ObservableArrayList<Integer>>)event ->
+        mirror.add(event.getIndex(), event.getElement()));
+    list.addElementRemovedListener((ListElementRemovedListener<Integer, List<Integer>, ObservableArrayList<Integer>>)event ->
+        assertEquals(event.getElement(), mirror.remove(event.getIndex())));
+    list.addElementChangedListener((ListElementChangedListener<Integer, List<Integer>, ObservableArrayList<Integer>>)event ->
+        assertEquals(event.getOldElement(), mirror.set(event.getIndex(), event.getNewElement())));
+
+    for(int i = 0; i < 20_000; i++) {
+      final Integer element = random.nextInt(64);
+
+      switch(random.nextInt(8)) {
+        case 0:
+        case 1:
+          assertEquals(expected.add(element), list.add(element));
+          break;
+        case 2:
+          final int insertAt = random.nextInt(expected.size() + 1);
+          expected.add(insertAt, element);
+          list.add(insertAt, element);
+          break;
+        case 3:
+          assertEquals(expected.remove(element), list.remove(element));
+          break;
+        case 4:
+          if(!expected.isEmpty()) {
+            final int removeAt = random.nextInt(expected.size());
+            assertEquals(expected.remove(removeAt), list.remove(removeAt));
+          }
+          break;
+        case 5:
+          if(!expected.isEmpty()) {
+            final int setAt = random.nextInt(expected.size());
+            assertEquals(expected.set(setAt, element), list.set(setAt, element));
+          }
+          break;
+        case 6:
+          assertEquals(expected.contains(element), list.contains(element));
+          assertEquals(expected.indexOf(element), list.indexOf(element));
+          assertEquals(expected.lastIndexOf(element), list.lastIndexOf(element));
+          break;
+        default:
+          if(random.nextInt(50) == 0) {
+            expected.removeIf(value -> value % 3 == 0);
+            list.removeIf(value -> value % 3 == 0);
+          }
+          break;
+      }
+
+      assertEquals(expected.size(), list.size());
+    }
+
+    assertEquals(expected, new ArrayList<>(list));
+    assertEquals(expected, mirror);
+    assertEquals(expected, list);
+  }
+
+  @Test
+  final void observableArrayList_bulkOperations() {
+    final ObservableArrayList<String> list = new ObservableArrayList<>(List.of("a", "b", "c"));
+    final List<String> added = new ArrayList<>();
+
+    list.addElementAddedListener((ListElementAddedListener<String, List<String>, ObservableArrayList<String>>)event ->
+        added.add(event.getIndex() + event.getElement()));
+
+    list.addAll(1, List.of("x", "y"));
+    list.addAll(List.of("z"));
+
+    assertEquals(List.of("a", "x", "y", "b", "c", "z"), new ArrayList<>(list));
+    assertEquals(List.of("1x", "2y", "5z"), added);
+
+    list.removeRange(1, 3);
+    list.trimToSize();
+
+    assertEquals(List.of("a", "b", "c", "z"), new ArrayList<>(list));
+
+    list.clear();
+
+    assertTrue(list.isEmpty());
+  }
+
+  @Test
+  final void observableArrayList_removeIfThrowingPredicateLeavesListIntact() {
+    final ObservableArrayList<Integer> list = new ObservableArrayList<>(List.of(1, 2, 3, 4));
+    final List<Integer> removed = new ArrayList<>();
+
+    list.addElementRemovedListener((ListElementRemovedListener<Integer, List<Integer>, ObservableArrayList<Integer>>)event ->
+        removed.add(event.getElement()));
+
+    assertThrows(IllegalStateException.class, () -> list.removeIf(value -> {
+      if(value == 3) {
+        throw new IllegalStateException();
+      }
+
+      return (value == 1);
+    }));
+
+    assertEquals(List.of(1, 2, 3, 4), new ArrayList<>(list));
+    assertTrue(removed.isEmpty());
+
+    assertTrue(list.removeIf(value -> value % 2 == 1));
+    assertEquals(List.of(2, 4), new ArrayList<>(list));
+    assertEquals(List.of(1, 3), removed);
+  }
+
+  @Test
+  final void observableArrayList_addAllEmptyKeepsIteratorValid() {
+    final ObservableArrayList<Integer> list = new ObservableArrayList<>(List.of(1, 2, 3));
+    final Iterator<Integer> iterator = list.iterator();
+
+    assertEquals(1, iterator.next());
+    assertFalse(list.addAll(1, List.of()));
+    assertFalse(list.addAll(List.of()));
+    assertEquals(2, iterator.next());
+  }
+
+  @Test
+  final void observableArrayList_spliteratorIsLateBindingAndFailFast() {
+    final ObservableArrayList<Integer> list = new ObservableArrayList<>(List.of(1, 2, 3));
+    final Stream<Integer> stream = list.stream();
+
+    list.addAll(IntStream.range(4, 100).boxed().collect(Collectors.toList()));
+
+    assertEquals(4950, stream.mapToInt(Integer::intValue).sum());
+
+    final Spliterator<Integer> spliterator = list.spliterator();
+
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+    assertEquals(99, spliterator.getExactSizeIfKnown());
+    assertEquals(49, spliterator.trySplit().getExactSizeIfKnown());
+
+    assertThrows(ConcurrentModificationException.class, () -> list.spliterator().forEachRemaining(element -> {
+      if(element == 50) {
+        list.add(0);
+      }
+    }));
+
+    assertEquals(4950, list.parallelStream().mapToInt(Integer::intValue).sum());
+  }
+
+  @Test
+  final void observableArrayList_iteratorIsFailFast() {
+    final ObservableArrayList<Integer> list = new ObservableArrayList<>(List.of(1, 2, 3));
+    final Iterator<Integer> iterator = list.iterator();
+
+    iterator.next();
+    list.add(4);
+
+    assertThrows(Exception.class, iterator::next);
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+    assertFalse(list.contains(5));
+  }
+
+}
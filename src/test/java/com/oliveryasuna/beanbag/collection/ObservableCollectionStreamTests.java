@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ObservableCollectionStreamTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void observableList_spliterator_sized() {
+    final ObservableList<Integer> list = new ObservableList<>(IntStream.range(0, 10_000).boxed().collect(Collectors.toCollection(ArrayList::new)));
+
+    final Spliterator<Integer> spliterator = list.spliterator();
+
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+    assertEquals(10_000, spliterator.getExactSizeIfKnown());
+    assertEquals(5_000, spliterator.trySplit().getExactSizeIfKnown());
+  }
+
+  @Test
+  final void observableSet_parallelStream() {
+    final ObservableSet<Integer> set = new ObservableSet<>(IntStream.range(0, 10_000).boxed().collect(Collectors.toCollection(HashSet::new)));
+
+    assertTrue(set.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+    assertEquals(49_995_000L, set.parallelStream().mapToLong(Integer::longValue).sum());
+  }
+
+  @Test
+  final void observableList_forEach() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(1, 2, 3)));
+
+    final List<Integer> seen = new ArrayList<>();
+    list.forEach(seen::add);
+
+    assertEquals(List.of(1, 2, 3), seen);
+  }
+
+}
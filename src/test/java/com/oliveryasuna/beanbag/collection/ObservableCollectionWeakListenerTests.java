@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import com.oliveryasuna.beanbag.collection.listener.CollectionElementAddedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementAddedListener;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+final class ObservableCollectionWeakListenerTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void observableCollection_weakListener_receivesEvents() {
+    final ObservableCollection<Integer> observable = new ObservableCollection<>(new HashSet<>());
+
+    final List<Integer> received = new ArrayList<>();
+    final CollectionElementAddedListener<Integer, Collection<Integer>, ObservableCollection<Integer>> listener = (event -> received.add(event.getElement()));
+
+    observable.addWeakElementAddedListener(listener);
+
+    observable.add(1);
+    observable.add(2);
+
+    assertEquals(List.of(1, 2), received);
+  }
+
+  @Test
+  final void observableCollection_weakListener_purgedAfterCollection() throws InterruptedException {
+    final ObservableCollection<Integer> observable = new ObservableCollection<>(new HashSet<>());
+
+    final WeakReference<Object> probe = register(observable);
+
+    for(int i = 0; i < 50 && probe.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertNull(probe.get());
+
+    Thread.sleep(50);
+
+    observable.add(1);
+
+    assertEquals(0, observable.elementAddedListeners.getListeners().length);
+  }
+
+  @Test
+  final void observableList_weakListener_receivesEvents() {
+    final ObservableList<Integer> observable = new ObservableList<>(new ArrayList<>());
+
+    final List<Integer> received = new ArrayList<>();
+    final ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>> listener = (event -> received.add(event.getIndex()));
+
+    observable.addWeakElementAddedListener(listener);
+
+    observable.add(1);
+    observable.add(0, 2);
+
+    assertEquals(List.of(0, 0), received);
+  }
+
+  // Helper methods
+  //--------------------------------------------------
+
+  private static WeakReference<Object> register(final ObservableCollection<Integer> observable) {
+    final List<Integer> received = new ArrayList<>();
+    final CollectionElementAddedListener<Integer, Collection<Integer>, ObservableCollection<Integer>> listener = (event -> received.add(event.getElement()));
+
+    observable.addWeakElementAddedListener(listener);
+
+    return new WeakReference<>(listener);
+  }
+
+}
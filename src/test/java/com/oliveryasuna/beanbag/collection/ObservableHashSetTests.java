@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ObservableHashSetTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void observableHashSet_matchesHashSet() {
+    final Random random = new Random(42);
+
+    final ObservableHashSet<Integer> set = new ObservableHashSet<>();
+    final Set<Integer> expected = new HashSet<>();
+    final Set<Integer> mirror = new HashSet<>();
+
+    set.addElementAddedListener(event -> assertTrue(mirror.add(event.getElement())));
+    set.addElementRemovedListener(event -> assertTrue(mirror.remove(event.getElement())));
+
+    for(int i = 0; i < 50_000; i++) {
+      final Integer element = (random.nextInt(100) == 0 ? null : random.nextInt(512));
+
+      switch(random.nextInt(5)) {
+        case 0:
+        case 1:
+          assertEquals(expected.add(element), set.add(element));
+          break;
+        case 2:
+          assertEquals(expected.remove(element), set.remove(element));
+          break;
+        case 3:
+          assertEquals(expected.contains(element), set.contains(element));
+          break;
+        default:
+          if(random.nextInt(100) == 0) {
+            final Iterator<Integer> iterator = set.iterator();
+
+            while(iterator.hasNext()) {
+              final Integer next = iterator.next();
+
+              if(next != null && next % 2 == 0) {
+                iterator.remove();
+                expected.remove(next);
+              }
+            }
+          }
+          break;
+      }
+
+      assertEquals(expected.size(), set.size());
+    }
+
+    assertEquals(expected, new HashSet<>(set));
+    assertEquals(expected, mirror);
+    assertEquals(expected, set);
+  }
+
+  @Test
+  final void observableHashSet_growsAndClears() {
+    final ObservableHashSet<String> set = new ObservableHashSet<>(Set.of("a", "b"));
+
+    for(int i = 0; i < 10_000; i++) {
+      set.add("e" + i);
+    }
+
+    assertEquals(10_002, set.size());
+    assertTrue(set.contains("e9999"));
+    assertFalse(set.add("a"));
+
+    set.clear();
+
+    assertTrue(set.isEmpty());
+    assertFalse(set.contains("a"));
+  }
+
+  @Test
+  final void observableHashSet_iteratorIsFailFast() {
+    final ObservableHashSet<Integer> set = new ObservableHashSet<>(Set.of(1, 2, 3));
+    final Iterator<Integer> iterator = set.iterator();
+
+    iterator.next();
+    set.add(4);
+
+    assertThrows(ConcurrentModificationException.class, iterator::next);
+  }
+
+  @Test
+  final void observableHashSet_spliteratorSplitsAndIsFailFast() {
+    final ObservableHashSet<Integer> set = new ObservableHashSet<>(IntStream.range(0, 10_000).boxed().collect(Collectors.toSet()));
+
+    final Spliterator<Integer> spliterator = set.spliterator();
+
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+    assertEquals(10_000, spliterator.getExactSizeIfKnown());
+
+    final Spliterator<Integer> prefix = spliterator.trySplit();
+    final Set<Integer> seen = new HashSet<>();
+
+    prefix.forEachRemaining(seen::add);
+    spliterator.forEachRemaining(seen::add);
+
+    assertEquals(10_000, seen.size());
+    assertEquals(49_995_000L, set.parallelStream().mapToLong(Integer::longValue).sum());
+
+    assertThrows(ConcurrentModificationException.class, () -> set.spliterator().forEachRemaining(element -> set.add(-1)));
+  }
+
+}
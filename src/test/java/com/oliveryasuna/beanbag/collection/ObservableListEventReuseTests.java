@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import com.oliveryasuna.beanbag.collection.event.ListElementAddedEvent;
+import com.oliveryasuna.beanbag.collection.listener.ListElementAddedListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class ObservableListEventReuseTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void observableList_reuseEvents_sameInstance() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    list.setReuseEvents(true);
+
+    final List<ListElementAddedEvent<Integer, List<Integer>, ObservableList<Integer>>> seen = new ArrayList<>();
+    final List<ListElementAddedEvent<Integer, List<Integer>, ObservableList<Integer>>> frozen = new ArrayList<>();
+    list.addElementAddedListener((ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>>)event -> {
+      seen.add(event);
+      frozen.add(event.freeze());
+    });
+
+    list.add(1);
+    list.add(2);
+
+    assertSame(seen.get(0), seen.get(1));
+    assertFalse(seen.get(0).isFrozen());
+
+    assertEquals(Integer.valueOf(1), frozen.get(0).getElement());
+    assertEquals(0, frozen.get(0).getIndex());
+    assertEquals(Integer.valueOf(2), frozen.get(1).getElement());
+    assertEquals(1, frozen.get(1).getIndex());
+    assertTrue(frozen.get(0).isFrozen());
+  }
+
+  @Test
+  final void observableList_reuseEvents_reentrantDispatchAllocates() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    list.setReuseEvents(true);
+
+    final List<String> seen = new ArrayList<>();
+    list.addElementAddedListener((ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>>)event -> {
+      final int element = event.getElement();
+
+      if(element == 1) {
+        list.add(2);
+      }
+
+      seen.add(element + "@" + event.getIndex() + "=" + event.getElement());
+    });
+
+    list.add(1);
+
+    assertEquals(List.of("2@1=2", "1@0=1"), seen);
+  }
+
+  @Test
+  final void observableList_defaultEvents_frozen() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+
+    final List<ListElementAddedEvent<Integer, List<Integer>, ObservableList<Integer>>> seen = new ArrayList<>();
+    list.addElementAddedListener((ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>>)seen::add);
+
+    list.add(1);
+    list.add(2);
+
+    assertNotSame(seen.get(0), seen.get(1));
+    assertSame(seen.get(0), seen.get(0).freeze());
+    assertThrows(IllegalStateException.class, () -> seen.get(0).reset(3, 0));
+  }
+
+}
@@ -18,12 +18,21 @@
 
 package com.oliveryasuna.beanbag.collection;
 
+import com.oliveryasuna.beanbag.collection.aggregate.Aggregates;
+import com.oliveryasuna.beanbag.collection.aggregate.LongSumAggregate;
+import com.oliveryasuna.beanbag.collection.event.ListElementRemovedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementsRemovedEvent;
+import com.oliveryasuna.beanbag.collection.index.HashIndex;
+import com.oliveryasuna.beanbag.collection.listener.CollectionElementRemovedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementRemovedListener;
 import com.oliveryasuna.beanbag.collection.util.TestUtils;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static com.oliveryasuna.beanbag.collection.util.TestUtils.uniqueElement;
@@ -126,4 +135,83 @@ final class ObservableListMutationTests {
     assertTrue(list.isEmpty());
   }
 
+  @Test
+  final void observableList_move() {
+    final List<Integer> list = new ArrayList<>(List.of(0, 1, 2, 3, 4));
+    final ObservableList<Integer> observableList = new ObservableList<>(list);
+
+    final List<Integer> mirror = new ArrayList<>(list);
+    observableList.addElementMovedListener(event -> mirror.add(event.getToIndex(), mirror.remove(event.getFromIndex())));
+
+    observableList.move(1, 3);
+
+    assertEquals(List.of(0, 2, 3, 1, 4), list);
+
+    observableList.move(4, 0);
+
+    assertEquals(List.of(4, 0, 2, 3, 1), list);
+    assertEquals(list, mirror);
+  }
+
+  @Test
+  final void observableList_swap() {
+    final List<Integer> list = new ArrayList<>(List.of(0, 1, 2, 3, 4));
+    final ObservableList<Integer> observableList = new ObservableList<>(list);
+
+    final List<Integer> mirror = new ArrayList<>(list);
+    observableList.addElementMovedListener(event -> mirror.add(event.getToIndex(), mirror.remove(event.getFromIndex())));
+
+    observableList.swap(3, 0);
+
+    assertEquals(List.of(3, 1, 2, 0, 4), list);
+
+    observableList.swap(1, 2);
+
+    assertEquals(List.of(3, 2, 1, 0, 4), list);
+    assertEquals(list, mirror);
+  }
+
+  @Test
+  final void observableList_removeRange() {
+    final List<Integer> list = new ArrayList<>(List.of(0, 1, 2, 3, 4, 5));
+    final ObservableList<Integer> observableList = new ObservableList<>(list);
+
+    final List<Object> events = new ArrayList<>();
+    observableList.addElementsRemovedListener(events::add);
+    observableList.addElementRemovedListener((ListElementRemovedListener<Integer, List<Integer>, ObservableList<Integer>>)events::add);
+
+    observableList.removeRange(1, 4);
+
+    assertEquals(List.of(0, 4, 5), list);
+    assertEquals(1, events.size());
+
+    final ListElementsRemovedEvent<?, ?, ?> event = (ListElementsRemovedEvent<?, ?, ?>)events.get(0);
+
+    assertEquals(1, event.getFromIndex());
+    assertEquals(4, event.getToIndex());
+    assertEquals(List.of(1, 2, 3), event.getElements());
+
+    observableList.removeRange(2, 2);
+
+    assertEquals(1, events.size());
+  }
+
+  @Test
+  final void observableList_removeRange_derivedStructures() {
+    final ObservableList<Integer> observableList = new ObservableList<>(new ArrayList<>(List.of(0, 1, 2, 3, 4, 5)));
+    final LongSumAggregate<Integer> sum = Aggregates.sumLong(observableList, Integer::longValue);
+    final HashIndex<Integer, Boolean> parity = observableList.index(element -> element % 2 == 0);
+    final List<Integer> removed = new ArrayList<>();
+
+    observableList.addElementRemovedListener((CollectionElementRemovedListener<Integer, List<Integer>, ObservableList<Integer>>)event ->
+        removed.add(event.getElement()));
+
+    observableList.removeRange(1, 4);
+
+    assertEquals(9L, sum.getValue());
+    assertEquals(Set.of(0, 4), new HashSet<>(parity.get(true)));
+    assertEquals(Set.of(5), new HashSet<>(parity.get(false)));
+    assertEquals(List.of(1, 2, 3), removed);
+  }
+
 }
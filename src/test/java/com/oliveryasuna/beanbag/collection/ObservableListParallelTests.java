@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import com.oliveryasuna.beanbag.collection.event.ListElementsChangedEvent;
+import com.oliveryasuna.beanbag.collection.listener.ListElementRemovedListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ObservableListParallelTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void observableList_parallelRemoveIf() {
+    final List<Integer> initial = IntStream.range(0, 200_000).boxed().collect(Collectors.toList());
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(initial));
+
+    final List<Integer> mirror = new ArrayList<>(initial);
+    list.addElementRemovedListener((ListElementRemovedListener<Integer, List<Integer>, ObservableList<Integer>>)event ->
+        assertEquals(event.getElement(), mirror.remove(event.getIndex())));
+
+    assertTrue(list.parallelRemoveIf(element -> element % 3 != 0));
+
+    final List<Integer> expected = new ArrayList<>(initial);
+    expected.removeIf(element -> element % 3 != 0);
+
+    assertEquals(expected, new ArrayList<>(list));
+    assertEquals(expected, mirror);
+
+    assertFalse(list.parallelRemoveIf(element -> element < 0));
+  }
+
+  @Test
+  final void observableList_parallelReplaceAll() {
+    final List<Integer> initial = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(initial));
+
+    final List<ListElementsChangedEvent<Integer, List<Integer>, ObservableList<Integer>>> events = new ArrayList<>();
+    list.addElementsChangedListener(events::add);
+
+    list.parallelReplaceAll(element -> (element >= 10 && element < 90_000 && element % 2 == 0 ? Integer.valueOf(-element) : element));
+
+    assertEquals(1, events.size());
+    assertEquals(10, events.get(0).getFromIndex());
+    assertEquals(89_999, events.get(0).getToIndex());
+    assertEquals(Integer.valueOf(-10), list.get(10));
+    assertEquals(Integer.valueOf(11), list.get(11));
+    assertEquals(Integer.valueOf(89_999), list.get(89_999));
+    assertEquals(Integer.valueOf(-89_998), events.get(0).getNewElements().get(89_998 - 10));
+    assertEquals(100_000, list.size());
+  }
+
+}
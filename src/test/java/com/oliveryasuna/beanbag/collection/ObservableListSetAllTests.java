@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import com.oliveryasuna.beanbag.collection.listener.ElementObserver;
+import com.oliveryasuna.beanbag.collection.listener.ListElementAddedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementRemovedListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ObservableListSetAllTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void observableList_setAll_minimalEvents() {
+    final List<Integer> initial = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(initial));
+
+    final List<String> events = new ArrayList<>();
+    list.addElementAddedListener((ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>>)event ->
+        events.add("+" + event.getIndex()));
+    list.addElementRemovedListener((ListElementRemovedListener<Integer, List<Integer>, ObservableList<Integer>>)event ->
+        events.add("-" + event.getIndex()));
+    list.addElementChangedListener(event -> events.add("~" + event.getIndex()));
+
+    final List<Integer> target = new ArrayList<>(initial);
+    target.remove(5000);
+    target.add(100, -1);
+    target.set(9000, -2);
+
+    list.setAll(target);
+
+    assertEquals(target, new ArrayList<>(list));
+    assertEquals(List.of("+100", "-5001", "~9000"), events);
+  }
+
+  @Test
+  final void observableList_setAll_unchanged() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(1, 2, 3)));
+
+    final List<Object> events = new ArrayList<>();
+    list.addElementChangedListener(events::add);
+    list.addElementObserver(new ElementObserver<>() {
+
+      @Override
+      public void elementAdded(final Integer element) {
+        events.add(element);
+      }
+
+      @Override
+      public void elementRemoved(final Integer element) {
+        events.add(element);
+      }
+
+    });
+
+    list.setAll(List.of(1, 2, 3));
+
+    assertTrue(events.isEmpty());
+  }
+
+  @Test
+  final void observableList_setAll_largeShrink() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final List<Integer> initial = random.ints(400_000).boxed().collect(Collectors.toList());
+    final List<Integer> target = random.ints(200_000).boxed().collect(Collectors.toList());
+
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(initial));
+
+    final int[] removed = new int[1];
+    list.addElementRemovedListener((ListElementRemovedListener<Integer, List<Integer>, ObservableList<Integer>>)event -> removed[0]++);
+
+    list.setAll(target);
+
+    assertEquals(target, new ArrayList<>(list));
+    assertEquals(200_000, removed[0]);
+  }
+
+  @Test
+  final void observableList_setAll_random_mirror() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    for(final boolean linked : new boolean[] {false, true}) {
+      for(int round = 0; round < 50; round++) {
+        final List<Integer> initial = random.ints(random.nextInt(200), 0, 20).boxed().collect(Collectors.toList());
+        final List<Integer> target = random.ints(random.nextInt(200), 0, 20).boxed().collect(Collectors.toList());
+
+        final ObservableList<Integer> list = new ObservableList<>(linked ? new LinkedList<>(initial) : new ArrayList<>(initial));
+        final List<Integer> mirror = new ArrayList<>(initial);
+
+        list.addElementAddedListener((ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>>)event ->
+            mirror.add(event.getIndex(), event.getElement()));
+        list.addElementRemovedListener((ListElementRemovedListener<Integer, List<Integer>, ObservableList<Integer>>)event ->
+            assertEquals(event.getElement(), mirror.remove(event.getIndex())));
+        list.addElementChangedListener(event -> assertEquals(event.getOldElement(), mirror.set(event.getIndex(), event.getNewElement())));
+
+        // Linked lists apply edits one at a time, so each event describes the list as it is when the event fires. Array-backed
+        // lists apply each run of adds or removes at once and then fire its events.
+        if(linked) {
+          list.addElementAddedListener((ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>>)event ->
+              assertEquals(mirror, new ArrayList<>(list)));
+          list.addElementRemovedListener((ListElementRemovedListener<Integer, List<Integer>, ObservableList<Integer>>)event ->
+              assertEquals(mirror, new ArrayList<>(list)));
+          list.addElementChangedListener(event -> assertEquals(mirror, new ArrayList<>(list)));
+        }
+
+        list.setAll(target);
+
+        assertEquals(target, new ArrayList<>(list));
+        assertEquals(target, mirror);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import com.oliveryasuna.beanbag.collection.aggregate.Aggregates;
+import com.oliveryasuna.beanbag.collection.aggregate.LongSumAggregate;
+import com.oliveryasuna.beanbag.collection.event.ListElementsChangedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementsPermutedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ObservableListSortTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void observableList_sort_singlePermutationEvent() {
+    final List<Integer> initial = ThreadLocalRandom.current().ints(10_000, 0, 100).boxed().collect(Collectors.toList());
+    final ObservableList<Integer> list = new ObservableList<>(new LinkedList<>(initial));
+
+    final List<ListElementsPermutedEvent<Integer, List<Integer>, ObservableList<Integer>>> events = new ArrayList<>();
+    list.addElementsPermutedListener(events::add);
+    list.addElementChangedListener(event -> events.add(null));
+
+    list.sort(Comparator.reverseOrder());
+
+    final List<Integer> expected = new ArrayList<>(initial);
+    expected.sort(Comparator.reverseOrder());
+
+    assertEquals(expected, new ArrayList<>(list));
+    assertEquals(1, events.size());
+
+    final int[] permutation = events.get(0).getPermutation();
+    final Integer[] mirror = new Integer[initial.size()];
+
+    for(int i = 0; i < permutation.length; i++) {
+      mirror[permutation[i]] = initial.get(i);
+    }
+
+    assertEquals(expected, List.of(mirror));
+  }
+
+  @Test
+  final void observableList_sort_stableAndSilentWhenSorted() {
+    final ObservableList<String> list = new ObservableList<>(new ArrayList<>(List.of("bb", "a", "cc", "d")));
+
+    final List<Object> events = new ArrayList<>();
+    list.addElementsPermutedListener(events::add);
+
+    list.sort(Comparator.comparingInt(String::length));
+
+    assertEquals(List.of("a", "d", "bb", "cc"), new ArrayList<>(list));
+    assertArrayEquals(new int[] {2, 0, 3, 1}, ((ListElementsPermutedEvent<?, ?, ?>)events.get(0)).getPermutation());
+
+    list.sort(Comparator.comparingInt(String::length));
+
+    assertEquals(1, events.size());
+  }
+
+  @Test
+  final void observableList_sort_permutationIsolatedPerListener() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(3, 1, 2)));
+
+    list.setChangeLogCapacity(4);
+
+    final long version = list.getVersion();
+    final List<int[]> seen = new ArrayList<>();
+
+    list.addElementsPermutedListener(event -> Arrays.fill(event.getPermutation(), 0));
+    list.addElementsPermutedListener(event -> seen.add(event.getPermutation()));
+
+    list.sort(Comparator.naturalOrder());
+
+    assertArrayEquals(new int[] {2, 0, 1}, seen.get(0));
+    assertArrayEquals(new int[] {2, 0, 1}, list.changesSince(version).getChanges().get(0).getPermutation());
+  }
+
+  @Test
+  final void observableList_replaceAll_singleBulkEvent() {
+    final ObservableList<Integer> list = new ObservableList<>(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+    final LongSumAggregate<Integer> sum = Aggregates.sumLong(list, Integer::longValue);
+
+    final List<ListElementsChangedEvent<Integer, List<Integer>, ObservableList<Integer>>> events = new ArrayList<>();
+    list.addElementsChangedListener(events::add);
+    list.addElementChangedListener(event -> events.add(null));
+
+    list.replaceAll(element -> element + 100);
+
+    assertEquals(1, events.size());
+    assertEquals(0, events.get(0).getFromIndex());
+    assertEquals(100, events.get(0).getToIndex());
+    assertEquals(Integer.valueOf(199), events.get(0).getNewElements().get(99));
+    assertEquals(Integer.valueOf(99), events.get(0).getOldElements().get(99));
+    assertEquals(Long.valueOf(14950), sum.getValue());
+
+    list.replaceAll(element -> element);
+
+    assertEquals(1, events.size());
+    assertTrue(list.contains(199));
+  }
+
+  @Test
+  final void observableList_replaceAll_narrowsToChangedSpan() {
+    final ObservableList<Integer> list = new ObservableList<>(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+
+    final List<ListElementsChangedEvent<Integer, List<Integer>, ObservableList<Integer>>> events = new ArrayList<>();
+    list.addElementsChangedListener(events::add);
+
+    list.replaceAll(element -> (element == 40 || element == 42 ? -element : element));
+
+    assertEquals(1, events.size());
+    assertEquals(40, events.get(0).getFromIndex());
+    assertEquals(43, events.get(0).getToIndex());
+    assertEquals(List.of(-40, 41, -42), events.get(0).getNewElements());
+    assertEquals(List.of(40, 41, 42), events.get(0).getOldElements());
+    assertEquals(-42, list.get(42));
+  }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection;
+
+import com.oliveryasuna.beanbag.collection.aggregate.Aggregates;
+import com.oliveryasuna.beanbag.collection.aggregate.CountAggregate;
+import com.oliveryasuna.beanbag.collection.aggregate.LongSumAggregate;
+import com.oliveryasuna.beanbag.collection.event.MultisetCountChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ObservableMultisetTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void observableMultiset_matchesCountMap() {
+    final Random random = new Random(42);
+
+    final ObservableMultiset<Integer> multiset = new ObservableMultiset<>();
+    final Map<Integer, Integer> expected = new HashMap<>();
+    final Map<Integer, Integer> mirror = new HashMap<>();
+
+    multiset.addCountChangedListener(event -> {
+      assertEquals(mirror.getOrDefault(event.getElement(), 0), event.getOldCount());
+
+      mirror.put(event.getElement(), event.getNewCount());
+    });
+
+    for(int i = 0; i < 20_000; i++) {
+      final Integer element = random.nextInt(64);
+      final int occurrences = random.nextInt(5);
+      final int oldCount = expected.getOrDefault(element, 0);
+
+      switch(random.nextInt(4)) {
+        case 0:
+          assertEquals(oldCount, multiset.add(element, occurrences));
+          expected.put(element, oldCount + occurrences);
+          break;
+        case 1:
+          assertEquals(oldCount, multiset.remove(element, occurrences));
+          expected.put(element, Math.max(0, oldCount - occurrences));
+          break;
+        case 2:
+          assertEquals(oldCount, multiset.setCount(element, occurrences));
+          expected.put(element, occurrences);
+          break;
+        default:
+          assertEquals(oldCount > 0, multiset.remove(element));
+          expected.put(element, Math.max(0, oldCount - 1));
+          break;
+      }
+
+      assertEquals(expected.get(element), multiset.count(element));
+      assertEquals(expected.get(element) > 0, multiset.contains(element));
+    }
+
+    expected.values().removeIf(count -> count == 0);
+    mirror.values().removeIf(count -> count == 0);
+
+    assertEquals(expected, mirror);
+    assertEquals(expected.keySet(), multiset.elementSet());
+    assertEquals(expected.values().stream().mapToInt(Integer::intValue).sum(), multiset.size());
+    assertEquals(multiset.size(), new ArrayList<>(multiset).size());
+  }
+
+  @Test
+  final void add_firesSingleCountChangedEvent() {
+    final ObservableMultiset<String> multiset = new ObservableMultiset<>();
+    final List<MultisetCountChangedEvent<String>> events = new ArrayList<>();
+
+    multiset.addCountChangedListener(events::add);
+
+    multiset.add("a", 1_000);
+    multiset.remove("a", 400);
+    multiset.setCount("a", 600);
+    multiset.remove("b", 3);
+
+    assertEquals(2, events.size());
+    assertEquals(1_000, events.get(0).getNewCount());
+    assertEquals(0, events.get(0).getOldCount());
+    assertEquals(600, events.get(1).getNewCount());
+    assertEquals(1_000, events.get(1).getOldCount());
+    assertEquals(2, multiset.getVersion());
+  }
+
+  @Test
+  final void add_singleEventWithElementListenersAttached() {
+    final ObservableMultiset<String> multiset = new ObservableMultiset<>();
+    final List<String> added = new ArrayList<>();
+    final List<MultisetCountChangedEvent<String>> events = new ArrayList<>();
+
+    multiset.addElementAddedListener(event -> added.add(event.getElement()));
+    multiset.addCountChangedListener(events::add);
+
+    final long version = multiset.getVersion();
+
+    multiset.setCount("a", 1_000_000);
+
+    assertTrue(added.isEmpty());
+    assertEquals(1, events.size());
+    assertEquals(version + 1, multiset.getVersion());
+  }
+
+  @Test
+  final void singleOccurrence_firesElementEvents() {
+    final ObservableMultiset<String> multiset = new ObservableMultiset<>();
+    final List<String> added = new ArrayList<>();
+    final List<String> removed = new ArrayList<>();
+
+    multiset.setChangeLogCapacity(16);
+    multiset.addElementAddedListener(event -> added.add(event.getElement()));
+    multiset.addElementRemovedListener(event -> removed.add(event.getElement()));
+
+    final long version = multiset.getVersion();
+
+    multiset.add("a");
+    multiset.add("a");
+    multiset.add("b");
+
+    assertEquals(3, multiset.changesSince(version).getChanges().size());
+
+    final long removeVersion = multiset.getVersion();
+
+    multiset.remove("a");
+
+    assertEquals(List.of("a", "a", "b"), added);
+    assertEquals(List.of("a"), removed);
+    assertFalse(multiset.changesSince(removeVersion).isResyncRequired());
+    assertEquals(1, multiset.changesSince(removeVersion).getChanges().size());
+  }
+
+  @Test
+  final void aggregates_trackCounts() {
+    final ObservableMultiset<Integer> multiset = new ObservableMultiset<>();
+    final CountAggregate<Integer> count = Aggregates.count(multiset);
+    final LongSumAggregate<Integer> sum = Aggregates.sumLong(multiset, Integer::longValue);
+
+    multiset.add(5);
+    multiset.add(7, 3);
+    multiset.setCount(5, 4);
+    multiset.remove(7);
+    multiset.remove(7, 5);
+
+    assertEquals(4, count.getValue());
+    assertEquals(20, sum.getValue());
+
+    multiset.addAll(List.of(1, 1, 2));
+    multiset.clear();
+
+    assertEquals(0, count.getValue());
+    assertEquals(0, sum.getValue());
+  }
+
+  @Test
+  final void occurrenceEvents_optIn() {
+    final ObservableMultiset<String> multiset = new ObservableMultiset<>();
+    final List<String> added = new ArrayList<>();
+    final List<String> removed = new ArrayList<>();
+
+    multiset.setOccurrenceEvents(true);
+    multiset.addElementAddedListener(event -> added.add(event.getElement()));
+    multiset.addElementRemovedListener(event -> removed.add(event.getElement()));
+
+    multiset.add("a", 3);
+    multiset.remove("a", 2);
+
+    assertEquals(List.of("a", "a", "a"), added);
+    assertEquals(List.of("a", "a"), removed);
+
+    multiset.clear();
+
+    assertEquals(List.of("a", "a", "a"), removed);
+    assertTrue(multiset.isEmpty());
+  }
+
+  @Test
+  final void addAll_foldsDuplicates() {
+    final ObservableMultiset<String> multiset = new ObservableMultiset<>();
+    final List<MultisetCountChangedEvent<String>> events = new ArrayList<>();
+
+    multiset.addCountChangedListener(events::add);
+
+    assertTrue(multiset.addAll(List.of("a", "b", "a", "a")));
+
+    assertEquals(2, events.size());
+    assertEquals(3, multiset.count("a"));
+    assertEquals(1, multiset.count("b"));
+    assertEquals(4, multiset.size());
+  }
+
+  @Test
+  final void removeAll_dropsEveryOccurrence() {
+    final ObservableMultiset<String> multiset = new ObservableMultiset<>(List.of("a", "a", "b", "c", "c"));
+
+    assertTrue(multiset.removeAll(List.of("a", "x")));
+    assertFalse(multiset.contains("a"));
+    assertTrue(multiset.retainAll(List.of("c")));
+    assertEquals(2, multiset.size());
+    assertEquals(2, multiset.count("c"));
+  }
+
+  @Test
+  final void iterator_removeDecrementsCount() {
+    final ObservableMultiset<String> multiset = new ObservableMultiset<>(List.of("a", "a", "b"));
+    final List<MultisetCountChangedEvent<String>> events = new ArrayList<>();
+
+    multiset.addCountChangedListener(events::add);
+
+    final Iterator<String> iterator = multiset.iterator();
+
+    while(iterator.hasNext()) {
+      if(iterator.next().equals("a")) {
+        iterator.remove();
+      }
+    }
+
+    assertEquals(0, multiset.count("a"));
+    assertEquals(1, multiset.size());
+    assertEquals(2, events.size());
+    assertEquals(0, events.get(1).getNewCount());
+  }
+
+  @Test
+  final void add_rejectsNegativeAndOverflow() {
+    final ObservableMultiset<String> multiset = new ObservableMultiset<>();
+
+    assertThrows(IllegalArgumentException.class, () -> multiset.add("a", -1));
+
+    multiset.setCount("a", Integer.MAX_VALUE);
+
+    assertThrows(IllegalArgumentException.class, () -> multiset.add("a", 1));
+    assertEquals(Integer.MAX_VALUE, multiset.count("a"));
+  }
+
+  @Test
+  final void changesSince_recordsOccurrences() {
+    final ObservableMultiset<String> multiset = new ObservableMultiset<>();
+
+    multiset.setChangeLogCapacity(16);
+
+    final long version = multiset.getVersion();
+
+    multiset.add("a", 3);
+
+    assertTrue(multiset.changesSince(version).isResyncRequired());
+
+    multiset.setOccurrenceEvents(true);
+
+    final long occurrenceVersion = multiset.getVersion();
+
+    multiset.add("b", 3);
+
+    assertEquals(3, multiset.changesSince(occurrenceVersion).getChanges().size());
+  }
+
+}
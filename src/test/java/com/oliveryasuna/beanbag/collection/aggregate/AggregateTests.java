@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.aggregate;
+
+import com.oliveryasuna.beanbag.collection.ObservableList;
+import com.oliveryasuna.beanbag.collection.ObservableSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class AggregateTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void aggregate_count() {
+    final ObservableSet<Integer> set = new ObservableSet<>(new HashSet<>(Set.of(1, 2, 3)));
+    final CountAggregate<Integer> count = Aggregates.count(set);
+
+    assertEquals(3, count.getValue());
+
+    set.add(4);
+    set.remove(1);
+    set.remove(1);
+
+    assertEquals(3, count.getValue());
+
+    set.clear();
+
+    assertEquals(0, count.getValue());
+  }
+
+  @Test
+  final void aggregate_sum_changed() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(1, 2, 3)));
+    final LongSumAggregate<Integer> sum = Aggregates.sumLong(list, Integer::longValue);
+
+    final List<AggregateChangedEvent<Integer, Long>> events = new ArrayList<>();
+    sum.addValueChangedListener(events::add);
+
+    list.set(0, 10);
+
+    assertEquals(15L, sum.getValue());
+    assertEquals(1, events.size());
+    assertEquals(6L, events.get(0).getOldValue());
+    assertEquals(15L, events.get(0).getNewValue());
+  }
+
+  @Test
+  final void aggregate_average() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    final AverageAggregate<Integer> average = Aggregates.average(list, Integer::doubleValue);
+
+    assertNull(average.getValue());
+
+    list.addAll(List.of(1, 2, 3, 6));
+
+    assertEquals(3.0, average.getValue());
+
+    list.remove((Integer)6);
+
+    assertEquals(2.0, average.getValue());
+  }
+
+  @Test
+  final void aggregate_minMax() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(5, 1, 9, 1)));
+    final ExtremeAggregate<Integer> min = Aggregates.min(list);
+    final ExtremeAggregate<Integer> max = Aggregates.max(list);
+
+    assertEquals(1, min.getValue());
+    assertEquals(9, max.getValue());
+
+    list.remove((Integer)1);
+
+    assertEquals(1, min.getValue());
+
+    list.remove((Integer)1);
+    list.remove((Integer)9);
+
+    assertEquals(5, min.getValue());
+    assertEquals(5, max.getValue());
+
+    list.clear();
+
+    assertNull(min.getValue());
+    assertNull(max.getValue());
+  }
+
+  @Test
+  final void aggregate_detach() {
+    final ObservableSet<Integer> set = new ObservableSet<>(new HashSet<>());
+    final CountAggregate<Integer> count = Aggregates.count(set);
+
+    count.detach();
+    set.add(1);
+
+    assertEquals(0, count.getValue());
+  }
+
+  @Test
+  final void aggregate_minMax_comparatorTies() {
+    final ObservableList<String> list = new ObservableList<>(new ArrayList<>(List.of("bb", "a", "cc")));
+    final ExtremeAggregate<String> longest = Aggregates.max(list, Comparator.comparingInt(String::length));
+
+    assertEquals("bb", longest.getValue());
+
+    list.remove("bb");
+
+    assertEquals("cc", longest.getValue());
+
+    list.remove("cc");
+
+    assertEquals("a", longest.getValue());
+  }
+
+}
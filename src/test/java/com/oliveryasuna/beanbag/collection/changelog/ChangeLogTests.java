@@ -0,0 +1,190 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.changelog;
+
+import com.oliveryasuna.beanbag.collection.ObservableList;
+import com.oliveryasuna.beanbag.collection.ObservableSet;
+import com.oliveryasuna.beanbag.collection.listener.ListElementRemovedListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ChangeLogTests {
+
+  // Static methods
+  //--------------------------------------------------
+
+  private static <T> void replay(final List<T> target, final Delta<T> delta) {
+    for(final Change<T> change : delta.getChanges()) {
+      switch(change.getType()) {
+        case ADDED:
+          target.add(change.getIndex(), change.getNewElement());
+          break;
+        case REMOVED:
+          target.remove(change.getIndex());
+          break;
+        case CHANGED:
+          target.set(change.getIndex(), change.getNewElement());
+          break;
+        case MOVED:
+          target.add(change.getToIndex(), target.remove(change.getIndex()));
+          break;
+        case PERMUTED:
+          final int[] permutation = change.getPermutation();
+          final List<T> before = new ArrayList<>(target);
+
+          for(int i = 0; i < permutation.length; i++) {
+            target.set(permutation[i], before.get(i));
+          }
+          break;
+      }
+    }
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void changesSince_replaysOntoSnapshot() {
+    final Random random = new Random(7);
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(5, 3, 8)));
+
+    list.setChangeLogCapacity(1024);
+
+    final long version = list.getVersion();
+    final List<Integer> snapshot = new ArrayList<>(list);
+
+    for(int i = 0; i < 200; i++) {
+      switch(random.nextInt(4)) {
+        case 0:
+          list.add(random.nextInt(list.size() + 1), random.nextInt(100));
+          break;
+        case 1:
+          if(!list.isEmpty()) list.remove(random.nextInt(list.size()));
+          break;
+        case 2:
+          if(!list.isEmpty()) list.set(random.nextInt(list.size()), random.nextInt(100));
+          break;
+        default:
+          if(list.size() > 1) list.move(random.nextInt(list.size()), random.nextInt(list.size()));
+          break;
+      }
+    }
+
+    list.sort(Comparator.naturalOrder());
+    list.replaceAll(element -> element + 1);
+
+    final Delta<Integer> delta = list.changesSince(version);
+
+    assertFalse(delta.isResyncRequired());
+    assertEquals(list.getVersion(), delta.getToVersion());
+
+    replay(snapshot, delta);
+
+    assertEquals(new ArrayList<>(list), snapshot);
+    assertTrue(list.changesSince(list.getVersion()).isEmpty());
+  }
+
+  @Test
+  final void changesSince_compactsCancellingChanges() {
+    final ObservableList<String> list = new ObservableList<>(new ArrayList<>(List.of("a")));
+
+    list.setChangeLogCapacity(16);
+
+    final long version = list.getVersion();
+    final String element = "b";
+
+    list.add(element);
+    list.set(1, "c");
+    list.remove(1);
+    list.add(0, "d");
+
+    final Delta<String> delta = list.changesSince(version);
+
+    assertEquals(version + 4, delta.getToVersion());
+    assertEquals(List.of(Change.added("d", 0)), delta.getChanges());
+  }
+
+  @Test
+  final void changesSince_requiresResyncOnceEvicted() {
+    final ObservableSet<Integer> set = new ObservableSet<>(new HashSet<>());
+    final long initial = set.getVersion();
+
+    assertTrue(set.changesSince(initial).isEmpty());
+
+    set.add(1);
+
+    assertTrue(set.changesSince(initial).isResyncRequired());
+
+    set.setChangeLogCapacity(2);
+
+    final long version = set.getVersion();
+
+    set.add(2);
+    set.add(3);
+
+    assertEquals(2, set.changesSince(version).getChanges().size());
+
+    set.add(4);
+
+    assertTrue(set.changesSince(version).isResyncRequired());
+    assertEquals(List.of(Change.added(4, -1)), set.changesSince(version + 2).getChanges());
+    assertThrows(IllegalArgumentException.class, () -> set.changesSince(set.getVersion() + 1));
+  }
+
+  @Test
+  final void changesSince_replaysIteratorRemoval() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(1, 2, 3, 4, 5)));
+
+    list.setChangeLogCapacity(16);
+
+    final long version = list.getVersion();
+    final List<Integer> snapshot = new ArrayList<>(list);
+    final List<Integer> removed = new ArrayList<>();
+    final Iterator<Integer> iterator = list.iterator();
+
+    list.addElementRemovedListener((ListElementRemovedListener<Integer, List<Integer>, ObservableList<Integer>>)event -> removed.add(event.getElement()));
+
+    while(iterator.hasNext()) {
+      if(iterator.next() % 2 == 0) {
+        iterator.remove();
+      }
+    }
+
+    final Delta<Integer> delta = list.changesSince(version);
+
+    assertEquals(version + 2, list.getVersion());
+    assertEquals(List.of(2, 4), removed);
+
+    delta.applyTo(snapshot);
+
+    assertEquals(List.of(1, 3, 5), snapshot);
+  }
+
+}
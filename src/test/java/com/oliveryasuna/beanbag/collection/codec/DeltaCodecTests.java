@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.codec;
+
+import com.oliveryasuna.beanbag.collection.ObservableList;
+import com.oliveryasuna.beanbag.collection.ObservableSet;
+import com.oliveryasuna.beanbag.collection.changelog.Change;
+import com.oliveryasuna.beanbag.collection.changelog.Delta;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class DeltaCodecTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void deltaCodec_appliesListDeltaToReplica() {
+    final Random random = new Random(11);
+    final DeltaCodec<Integer> codec = new DeltaCodec<>(ElementCodecs.INTEGER);
+
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(1, 2, 3)));
+    final List<Integer> replica = new ArrayList<>(list);
+
+    list.setChangeLogCapacity(4096);
+
+    final long version = list.getVersion();
+
+    for(int i = 0; i < 500; i++) {
+      switch(random.nextInt(4)) {
+        case 0:
+          list.add(random.nextInt(list.size() + 1), random.nextInt() - Integer.MAX_VALUE / 2);
+          break;
+        case 1:
+          if(!list.isEmpty()) list.remove(random.nextInt(list.size()));
+          break;
+        case 2:
+          if(!list.isEmpty()) list.set(random.nextInt(list.size()), random.nextInt(1000));
+          break;
+        default:
+          if(list.size() > 1) list.swap(random.nextInt(list.size()), random.nextInt(list.size()));
+          break;
+      }
+    }
+
+    list.sort(Comparator.naturalOrder());
+    list.removeRange(0, Math.min(5, list.size()));
+
+    final Delta<Integer> delta = list.changesSince(version);
+    final ByteBuffer frame = ByteBuffer.allocateDirect(codec.encodedSize(delta));
+
+    codec.encode(delta, frame);
+
+    assertFalse(frame.hasRemaining());
+
+    assertEquals(list.getVersion(), codec.apply(frame.flip(), replica));
+    assertFalse(frame.hasRemaining());
+    assertEquals(new ArrayList<>(list), replica);
+  }
+
+  @Test
+  final void deltaCodec_runLengthEncodesContiguousRanges() {
+    final DeltaCodec<Integer> codec = new DeltaCodec<>(ElementCodecs.INTEGER);
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+
+    list.setChangeLogCapacity(1024);
+    list.addAll(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+
+    final Delta<Integer> delta = list.changesSince(0);
+    final ByteBuffer frame = codec.encode(delta);
+
+    // Header (2 + 1 + 1 + 1), one run header (1 + 1 + 1) and 100 one-or-two byte elements.
+    assertTrue(frame.remaining() < 5 + 3 + 200);
+    assertEquals(delta.getChanges(), codec.decode(frame).getChanges());
+  }
+
+  @Test
+  final void deltaCodec_appliesSetDeltaToReplica() {
+    final DeltaCodec<String> codec = new DeltaCodec<>(ElementCodecs.nullable(ElementCodecs.STRING));
+
+    final ObservableSet<String> set = new ObservableSet<>(new HashSet<>(Set.of("a", "b")));
+    final Set<String> replica = new HashSet<>(set);
+
+    set.setChangeLogCapacity(16);
+
+    final long version = set.getVersion();
+
+    set.add("\u00e9t\u00e9 \ud83c\udf1e");
+    set.add(null);
+    set.remove("a");
+
+    final Delta<String> delta = set.changesSince(version);
+    final ByteBuffer frame = codec.encode(delta);
+
+    assertEquals(codec.encodedSize(delta), frame.remaining());
+
+    codec.apply(frame, replica);
+
+    assertEquals(new HashSet<>(set), replica);
+  }
+
+  @Test
+  final void deltaCodec_rejectsResyncFrames() {
+    final DeltaCodec<Integer> codec = new DeltaCodec<>(ElementCodecs.INTEGER);
+    final ByteBuffer frame = codec.encode(Delta.resync(1L, 9L));
+
+    assertTrue(codec.decode(frame.duplicate()).isResyncRequired());
+    assertThrows(IllegalStateException.class, () -> codec.apply(frame, new ArrayList<>()));
+    assertThrows(IllegalArgumentException.class, () -> codec.apply(codec.encode(Delta.of(0L, 1L, List.of(Change.added(1, 0)))), new HashSet<>()));
+  }
+
+}
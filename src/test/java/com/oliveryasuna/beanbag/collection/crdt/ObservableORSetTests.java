@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.crdt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ObservableORSetTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void merge_convergesWithAddWins() {
+    final ObservableORSet<String> a = new ObservableORSet<>("a");
+    final ObservableORSet<String> b = new ObservableORSet<>("b");
+
+    a.add("x");
+    a.add("y");
+    b.merge(a.takeDelta());
+
+    // Concurrent: a removes x while b re-adds it; b removes y while a leaves it alone.
+    a.remove("x");
+    b.add("x");
+    b.remove("y");
+
+    final ORSetState<String> fromA = a.takeDelta();
+    final ORSetState<String> fromB = b.takeDelta();
+
+    a.merge(fromB);
+    b.merge(fromA);
+
+    assertEquals(Set.of("x"), new HashSet<>(a));
+    assertEquals(Set.of("x"), new HashSet<>(b));
+  }
+
+  @Test
+  final void merge_firesEventsOnlyForEffectiveChanges() {
+    final ObservableORSet<Integer> a = new ObservableORSet<>("a");
+    final ObservableORSet<Integer> b = new ObservableORSet<>("b");
+
+    final List<String> events = new ArrayList<>();
+    b.addElementAddedListener(event -> events.add("+" + event.getElement()));
+    b.addElementRemovedListener(event -> events.add("-" + event.getElement()));
+
+    a.add(1);
+    a.add(2);
+    b.add(2);
+
+    b.merge(a.state());
+    b.merge(a.state());
+
+    assertEquals(List.of("+2", "+1"), events);
+
+    a.remove(1);
+    a.add(2);
+
+    b.merge(a.takeDelta());
+
+    assertEquals(List.of("+2", "+1", "-1"), events);
+    assertEquals(Set.of(2), new HashSet<>(b));
+  }
+
+  @Test
+  final void merge_fullStateRemovesObservedElements() {
+    final ObservableORSet<Integer> a = new ObservableORSet<>("a");
+    final ObservableORSet<Integer> b = new ObservableORSet<>("b");
+
+    for(int i = 0; i < 1_000; i++) {
+      a.add(i);
+    }
+
+    b.merge(a.state());
+
+    a.removeIf(element -> element % 2 == 0);
+    b.add(-1);
+
+    b.merge(a.state());
+    a.merge(b.state());
+
+    assertEquals(501, b.size());
+    assertEquals(new HashSet<>(a), new HashSet<>(b));
+    assertFalse(b.contains(0));
+    assertTrue(b.contains(-1));
+    assertTrue(b.state().getContext().getCloud().isEmpty());
+  }
+
+  @Test
+  final void merge_largeDelta() {
+    final ObservableORSet<Integer> a = new ObservableORSet<>("a");
+    final ObservableORSet<Integer> b = new ObservableORSet<>("b");
+
+    for(int i = 0; i < 1_000_000; i++) {
+      a.add(i);
+    }
+
+    final ORSetState<Integer> delta = a.takeDelta();
+    final long start = System.nanoTime();
+
+    b.merge(delta);
+
+    final long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+    assertEquals(1_000_000, b.size());
+    // Generous bound so slow CI machines do not flake; the benchmark module tracks the real number.
+    assertTrue(elapsedMillis < 5_000L, elapsedMillis + " ms");
+
+    a.removeIf(element -> element < 500_000);
+    b.merge(a.takeDelta());
+
+    assertEquals(500_000, b.size());
+  }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.dispatch;
+
+import com.oliveryasuna.beanbag.collection.ObservableList;
+import com.oliveryasuna.beanbag.collection.event.ListElementChangedEvent;
+import com.oliveryasuna.beanbag.collection.listener.ListElementAddedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementRemovedListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class CoalescingDispatcherTests {
+
+  // Fields
+  //--------------------------------------------------
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+  // Lifecycle
+  //--------------------------------------------------
+
+  @AfterEach
+  final void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void coalescingDispatcher_mergesChanges() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(0, 0)));
+    final CoalescingDispatcher<Integer, List<Integer>, ObservableList<Integer>> dispatcher = newDispatcher(list, 1000);
+
+    final List<ListElementChangedEvent<Integer, List<Integer>, ObservableList<Integer>>> changes = new ArrayList<>();
+    dispatcher.addElementChangedListener(changes::add);
+
+    for(int i = 1; i <= 100; i++) {
+      list.set(0, i);
+      list.set(1, -i);
+    }
+
+    assertTrue(changes.isEmpty());
+
+    dispatcher.flush();
+
+    assertEquals(2, changes.size());
+    assertEquals(0, changes.get(0).getOldElement());
+    assertEquals(100, changes.get(0).getNewElement());
+    assertEquals(-100, changes.get(1).getNewElement());
+  }
+
+  @Test
+  final void coalescingDispatcher_cancelsAddRemove() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(1, 2, 3)));
+    final CoalescingDispatcher<Integer, List<Integer>, ObservableList<Integer>> dispatcher = newDispatcher(list, 1000);
+
+    final List<Integer> events = new ArrayList<>();
+    dispatcher.addElementAddedListener(event -> events.add(event.getIndex()));
+    dispatcher.addElementRemovedListener(event -> events.add(-event.getIndex()));
+    dispatcher.addElementChangedListener(event -> events.add(100 + event.getIndex()));
+
+    list.add(1, 9);
+    list.set(1, 10);
+    list.set(3, 30);
+    list.remove(1);
+
+    dispatcher.flush();
+
+    assertEquals(List.of(102), events);
+  }
+
+  @Test
+  final void coalescingDispatcher_removeRangeDeliveredOnce() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(0, 1, 2, 3, 4)));
+    final CoalescingDispatcher<Integer, List<Integer>, ObservableList<Integer>> dispatcher = newDispatcher(list, 1000);
+    final List<Integer> mirror = new ArrayList<>(list);
+
+    dispatcher.addElementRemovedListener(event -> mirror.remove(event.getIndex()));
+    dispatcher.addElementsRemovedListener(event -> mirror.subList(event.getFromIndex(), event.getToIndex()).clear());
+
+    list.removeRange(1, 4);
+    dispatcher.flush();
+
+    assertEquals(List.of(0, 4), mirror);
+  }
+
+  @Test
+  final void coalescingDispatcher_flushesOnSizeLimit() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    final CoalescingDispatcher<Integer, List<Integer>, ObservableList<Integer>> dispatcher = newDispatcher(list, 3);
+
+    final List<Integer> added = new ArrayList<>();
+    dispatcher.addElementAddedListener(event -> added.add(event.getElement()));
+
+    list.addAll(List.of(1, 2));
+
+    assertTrue(added.isEmpty());
+
+    list.add(3);
+
+    assertEquals(List.of(1, 2, 3), added);
+  }
+
+  @Test
+  final void coalescingDispatcher_flushesOnSchedule() throws InterruptedException {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    final CoalescingDispatcher<Integer, List<Integer>, ObservableList<Integer>> dispatcher =
+        new CoalescingDispatcher<>(list, scheduler, Duration.ofMillis(10), WindowMode.DEBOUNCE, 1000);
+
+    final CountDownLatch latch = new CountDownLatch(1);
+    dispatcher.addElementAddedListener(event -> latch.countDown());
+
+    list.add(1);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  final void coalescingDispatcher_random_mirror() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    final List<Integer> mirror = new ArrayList<>();
+    final CoalescingDispatcher<Integer, List<Integer>, ObservableList<Integer>> dispatcher = newDispatcher(list, 64);
+
+    dispatcher.addElementAddedListener((ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>>)event ->
+        mirror.add(event.getIndex(), event.getElement()));
+    dispatcher.addElementRemovedListener((ListElementRemovedListener<Integer, List<Integer>, ObservableList<Integer>>)event ->
+        assertEquals(event.getElement(), mirror.remove(event.getIndex())));
+    dispatcher.addElementChangedListener(event -> assertEquals(event.getOldElement(), mirror.set(event.getIndex(), event.getNewElement())));
+
+    for(int i = 0; i < 5000; i++) {
+      final int operation = random.nextInt(4);
+
+      if(operation == 0 || list.isEmpty()) {
+        list.add(random.nextInt(list.size() + 1), random.nextInt(1000));
+      } else if(operation == 1) {
+        list.remove(random.nextInt(list.size()));
+      } else {
+        list.set(random.nextInt(Math.min(list.size(), 4)), random.nextInt(1000));
+      }
+    }
+
+    dispatcher.close();
+
+    assertEquals(new ArrayList<>(list), mirror);
+  }
+
+  // Helpers
+  //--------------------------------------------------
+
+  private CoalescingDispatcher<Integer, List<Integer>, ObservableList<Integer>> newDispatcher(final ObservableList<Integer> list, final int maxBufferSize) {
+    return new CoalescingDispatcher<>(list, scheduler, Duration.ofHours(1), WindowMode.FIXED, maxBufferSize);
+  }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.dispatch;
+
+import com.oliveryasuna.beanbag.collection.ObservableList;
+import com.oliveryasuna.beanbag.collection.listener.ListElementAddedListener;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class IsolatingDispatchPolicyTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void isolatingDispatchPolicy_quarantinesFailingListener() {
+    final List<String> actions = new ArrayList<>();
+    final IsolatingDispatchPolicy policy = new IsolatingDispatchPolicy(Duration.ofSeconds(1), 1, 2, Runnable::run, new IsolationCallback() {
+
+      @Override
+      public void listenerFailed(final Object listener, final Throwable failure) {
+        actions.add("failed:" + failure.getMessage());
+      }
+
+      @Override
+      public void listenerQuarantined(final Object listener, final Throwable lastFailure) {
+        actions.add("quarantined");
+      }
+
+    });
+
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    list.setDispatchPolicy(policy);
+
+    final List<Integer> received = new ArrayList<>();
+    final ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>> failing = (event -> {
+      throw new IllegalStateException(String.valueOf(event.getElement()));
+    });
+
+    list.addElementAddedListener(failing);
+    list.addElementAddedListener((ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>>)event -> received.add(event.getElement()));
+
+    list.add(1);
+    list.add(2);
+    list.add(3);
+
+    assertEquals(List.of(1, 2, 3), received);
+    assertEquals(List.of("failed:1", "failed:2", "quarantined"), actions);
+    assertEquals(ListenerState.QUARANTINED, policy.getState(failing));
+
+    policy.reinstate(failing);
+
+    assertEquals(ListenerState.INLINE, policy.getState(failing));
+  }
+
+  @Test
+  final void isolatingDispatchPolicy_demotesSlowListener() {
+    final List<Runnable> lane = new ArrayList<>();
+    final List<Object> demoted = new ArrayList<>();
+    final IsolatingDispatchPolicy policy = new IsolatingDispatchPolicy(Duration.ofMillis(1), 2, 1, lane::add, new IsolationCallback() {
+
+      @Override
+      public void listenerDemoted(final Object listener, final long elapsedNanos) {
+        demoted.add(listener);
+      }
+
+    });
+
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    list.setDispatchPolicy(policy);
+
+    final List<Integer> received = new ArrayList<>();
+    final ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>> slow = (event -> {
+      try {
+        TimeUnit.MILLISECONDS.sleep(5);
+      } catch(final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      received.add(event.getElement());
+    });
+
+    list.addElementAddedListener(slow);
+
+    list.add(1);
+    list.add(2);
+
+    assertEquals(List.of(slow), demoted);
+    assertEquals(ListenerState.ASYNC, policy.getState(slow));
+
+    list.add(3);
+    list.add(4);
+
+    assertEquals(List.of(1, 2), received);
+    assertEquals(2, lane.size());
+
+    lane.forEach(Runnable::run);
+
+    assertEquals(List.of(1, 2, 3, 4), received);
+  }
+
+}
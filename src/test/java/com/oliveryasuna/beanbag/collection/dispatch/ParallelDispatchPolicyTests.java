@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.dispatch;
+
+import com.oliveryasuna.beanbag.collection.ObservableSet;
+import com.oliveryasuna.beanbag.collection.listener.CollectionElementAddedListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ParallelDispatchPolicyTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void parallelDispatchPolicy_awaitDeliversToAll() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+
+    try {
+      final ObservableSet<Integer> set = new ObservableSet<>(new HashSet<>());
+      set.setDispatchPolicy(new ParallelDispatchPolicy(pool, 4, true));
+
+      final AtomicInteger calls = new AtomicInteger();
+      final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+      for(int i = 0; i < 256; i++) {
+        set.addElementAddedListener((CollectionElementAddedListener<Integer, Set<Integer>, ObservableSet<Integer>>)event -> {
+          threads.add(Thread.currentThread());
+          calls.incrementAndGet();
+        });
+      }
+
+      set.add(1);
+      set.add(2);
+
+      assertEquals(512, calls.get());
+      assertTrue(threads.stream().anyMatch(thread -> thread != Thread.currentThread()));
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  final void parallelDispatchPolicy_smallFanOutRunsInline() {
+    final ObservableSet<Integer> set = new ObservableSet<>(new HashSet<>());
+    set.setDispatchPolicy(new ParallelDispatchPolicy(false));
+
+    final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    for(int i = 0; i < 3; i++) {
+      set.addElementAddedListener((CollectionElementAddedListener<Integer, Set<Integer>, ObservableSet<Integer>>)event ->
+          threads.add(Thread.currentThread()));
+    }
+
+    set.add(1);
+
+    assertEquals(Set.of(Thread.currentThread()), threads);
+  }
+
+  @Test
+  final void parallelDispatchPolicy_noAwaitReturnsImmediately() throws InterruptedException {
+    final ForkJoinPool pool = new ForkJoinPool(2);
+
+    try {
+      final ObservableSet<Integer> set = new ObservableSet<>(new HashSet<>());
+      set.setDispatchPolicy(new ParallelDispatchPolicy(pool, 1, false));
+
+      final CountDownLatch release = new CountDownLatch(1);
+      final CountDownLatch done = new CountDownLatch(4);
+
+      for(int i = 0; i < 4; i++) {
+        set.addElementAddedListener((CollectionElementAddedListener<Integer, Set<Integer>, ObservableSet<Integer>>)event -> {
+          try {
+            release.await();
+          } catch(final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+
+          done.countDown();
+        });
+      }
+
+      set.add(1);
+
+      assertEquals(4, done.getCount());
+
+      release.countDown();
+
+      assertTrue(done.await(5, TimeUnit.SECONDS));
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.flow;
+
+import com.oliveryasuna.beanbag.collection.ObservableList;
+import com.oliveryasuna.beanbag.collection.ObservableSet;
+import com.oliveryasuna.beanbag.collection.event.CollectionElementAddedEvent;
+import com.oliveryasuna.beanbag.collection.event.CollectionEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementAddedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListElementsRemovedEvent;
+import com.oliveryasuna.beanbag.collection.event.ListEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class EventPublisherTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void eventPublisher_respectsDemand() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    final EventPublisher<ListEvent<Integer, List<Integer>, ObservableList<Integer>>> publisher = EventPublisher.ofList(list, OverflowStrategy.BUFFER, 1);
+    final RecordingSubscriber<ListEvent<Integer, List<Integer>, ObservableList<Integer>>> subscriber = new RecordingSubscriber<>();
+
+    publisher.subscribe(subscriber);
+
+    list.addAll(List.of(1, 2, 3));
+
+    assertTrue(subscriber.items.isEmpty());
+
+    subscriber.subscription.request(2);
+
+    assertEquals(List.of(1, 2), indexesPlusOne(subscriber.items));
+
+    subscriber.subscription.request(5);
+    list.add(4);
+
+    assertEquals(List.of(1, 2, 3, 4), indexesPlusOne(subscriber.items));
+  }
+
+  @Test
+  final void eventPublisher_dropOldest() {
+    final ObservableSet<Integer> set = new ObservableSet<>(new HashSet<>());
+    final EventPublisher<CollectionEvent<Integer, Set<Integer>, ObservableSet<Integer>>> publisher =
+        EventPublisher.ofCollection(set, OverflowStrategy.DROP_OLDEST, 2);
+    final RecordingSubscriber<CollectionEvent<Integer, Set<Integer>, ObservableSet<Integer>>> subscriber = new RecordingSubscriber<>();
+
+    publisher.subscribe(subscriber);
+
+    set.add(1);
+    set.add(2);
+    set.add(3);
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertEquals(List.of(2, 3), subscriber.items.stream()
+        .map(event -> ((CollectionElementAddedEvent<Integer, Set<Integer>, ObservableSet<Integer>>)event).getElement())
+        .collect(Collectors.toList()));
+  }
+
+  @Test
+  final void eventPublisher_error() {
+    final ObservableSet<Integer> set = new ObservableSet<>(new HashSet<>());
+    final EventPublisher<CollectionEvent<Integer, Set<Integer>, ObservableSet<Integer>>> publisher =
+        EventPublisher.ofCollection(set, OverflowStrategy.ERROR, 1);
+    final RecordingSubscriber<CollectionEvent<Integer, Set<Integer>, ObservableSet<Integer>>> subscriber = new RecordingSubscriber<>();
+
+    publisher.subscribe(subscriber);
+
+    set.add(1);
+    set.add(2);
+
+    assertInstanceOf(IllegalStateException.class, subscriber.error);
+  }
+
+  @Test
+  final void eventPublisher_batched_close() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    final EventPublisher<ListEvent<Integer, List<Integer>, ObservableList<Integer>>> publisher = EventPublisher.ofList(list, OverflowStrategy.BUFFER, 1);
+    final RecordingSubscriber<List<ListEvent<Integer, List<Integer>, ObservableList<Integer>>>> subscriber = new RecordingSubscriber<>();
+
+    publisher.batched(2).subscribe(subscriber);
+
+    list.addAll(List.of(1, 2, 3));
+    subscriber.subscription.request(10);
+
+    assertEquals(2, subscriber.items.size());
+    assertEquals(2, subscriber.items.get(0).size());
+    assertEquals(1, subscriber.items.get(1).size());
+
+    publisher.close();
+    list.add(4);
+
+    assertTrue(subscriber.completed);
+    assertEquals(2, subscriber.items.size());
+  }
+
+  @Test
+  final void eventPublisher_removeRangePublishedOnce() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(0, 1, 2, 3, 4)));
+    final EventPublisher<ListEvent<Integer, List<Integer>, ObservableList<Integer>>> publisher = EventPublisher.ofList(list, OverflowStrategy.BUFFER, 16);
+    final RecordingSubscriber<ListEvent<Integer, List<Integer>, ObservableList<Integer>>> subscriber = new RecordingSubscriber<>();
+
+    publisher.subscribe(subscriber);
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    list.removeRange(1, 4);
+
+    assertEquals(1, subscriber.items.size());
+    assertEquals(List.of(1, 2, 3), ((ListElementsRemovedEvent<Integer, List<Integer>, ObservableList<Integer>>)subscriber.items.get(0)).getElements());
+  }
+
+  // Helpers
+  //--------------------------------------------------
+
+  private static List<Integer> indexesPlusOne(final List<? extends ListEvent<Integer, List<Integer>, ObservableList<Integer>>> events) {
+    return events.stream()
+        .map(event -> ((ListElementAddedEvent<Integer, List<Integer>, ObservableList<Integer>>)event).getIndex() + 1)
+        .collect(Collectors.toList());
+  }
+
+  private static final class RecordingSubscriber<I> implements Flow.Subscriber<I> {
+
+    private final List<I> items = new ArrayList<>();
+
+    private Flow.Subscription subscription;
+
+    private Throwable error;
+
+    private boolean completed;
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(final I item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+
+  }
+
+}
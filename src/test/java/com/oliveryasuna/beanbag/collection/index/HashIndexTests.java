@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.index;
+
+import com.oliveryasuna.beanbag.collection.ObservableList;
+import com.oliveryasuna.beanbag.collection.ObservableSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class HashIndexTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void hashIndex_rebuild() {
+    final ObservableSet<String> set = new ObservableSet<>(new HashSet<>(Set.of("apple", "avocado", "banana")));
+    final HashIndex<String, Character> index = set.index(element -> element.charAt(0));
+
+    assertEquals(Set.of("apple", "avocado"), new HashSet<>(index.get('a')));
+    assertEquals(Set.of("banana"), new HashSet<>(index.get('b')));
+    assertTrue(index.get('c').isEmpty());
+  }
+
+  @Test
+  final void hashIndex_mutations() {
+    final ObservableSet<String> set = new ObservableSet<>(new HashSet<>());
+    final HashIndex<String, Character> index = set.index(element -> element.charAt(0));
+
+    set.addAll(List.of("cherry", "coconut", "date"));
+    set.remove("cherry");
+
+    assertEquals(List.of("coconut"), new ArrayList<>(index.get('c')));
+    assertEquals(1, index.count('d'));
+
+    set.clear();
+
+    assertTrue(index.keySet().isEmpty());
+  }
+
+  @Test
+  final void hashIndex_list_duplicatesAndChanges() {
+    final ObservableList<String> list = new ObservableList<>(new ArrayList<>(List.of("fig", "fig", "grape")));
+    final HashIndex<String, Integer> index = list.index(String::length);
+
+    assertEquals(2, index.count(3));
+
+    list.remove(0);
+
+    assertEquals(List.of("fig"), new ArrayList<>(index.get(3)));
+
+    list.set(0, "guava");
+
+    assertFalse(index.containsKey(3));
+    assertEquals(Set.of("grape", "guava"), new HashSet<>(index.get(5)));
+  }
+
+  @Test
+  final void uniqueHashIndex() {
+    final ObservableSet<String> set = new ObservableSet<>(new HashSet<>(Set.of("kiwi", "lemon")));
+    final UniqueHashIndex<String, Character> index = set.uniqueIndex(element -> element.charAt(0));
+
+    assertEquals("kiwi", index.get('k'));
+
+    set.remove("kiwi");
+
+    assertNull(index.get('k'));
+
+    set.add("lime");
+
+    assertTrue(set.contains("lime"));
+    assertEquals("lemon", index.get('l'));
+    assertEquals(Set.of('l'), index.getConflictingKeys());
+
+    set.remove("lemon");
+
+    assertEquals("lime", index.get('l'));
+    assertFalse(index.hasConflicts());
+  }
+
+  @Test
+  final void uniqueHashIndex_list_equalDuplicates() {
+    final ObservableList<String> list = new ObservableList<>(new ArrayList<>(List.of("pear", "pear")));
+    final UniqueHashIndex<String, Character> index = list.uniqueIndex(element -> element.charAt(0));
+
+    list.remove(0);
+
+    assertEquals("pear", index.get('p'));
+    assertFalse(index.hasConflicts());
+
+    list.remove(0);
+
+    assertFalse(index.containsKey('p'));
+  }
+
+}
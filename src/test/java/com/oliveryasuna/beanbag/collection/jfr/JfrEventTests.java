@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.jfr;
+
+import com.oliveryasuna.beanbag.collection.ObservableList;
+import com.oliveryasuna.beanbag.collection.listener.ListElementRemovedListener;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+final class JfrEventTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void jfr_listenerAndBulkEvents() throws IOException {
+    final ObservableList<Integer> list = new ObservableList<>(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+    list.addElementRemovedListener((ListElementRemovedListener<Integer, List<Integer>, ObservableList<Integer>>)event -> {
+    });
+
+    final Path file = Files.createTempFile("beanbag", ".jfr");
+
+    try(final Recording recording = new Recording()) {
+      recording.enable(ListenerInvocationEvent.class).withThreshold(Duration.ZERO);
+      recording.enable(BulkMutationEvent.class).withThreshold(Duration.ZERO);
+      recording.start();
+
+      list.removeIf(element -> element % 2 == 0);
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+    Files.delete(file);
+
+    final List<RecordedEvent> bulkEvents = events.stream()
+        .filter(event -> event.getEventType().getName().equals("com.oliveryasuna.beanbag.BulkMutation"))
+        .collect(Collectors.toList());
+    final long invocationCount = events.stream()
+        .filter(event -> event.getEventType().getName().equals("com.oliveryasuna.beanbag.ListenerInvocation"))
+        .filter(event -> event.getString("listenerType").equals(ListElementRemovedListener.class.getName()))
+        .count();
+
+    assertEquals(1, bulkEvents.size());
+    assertEquals("removeIf", bulkEvents.get(0).getString("operation"));
+    assertEquals(1000, bulkEvents.get(0).getInt("sizeBefore"));
+    assertEquals(500, bulkEvents.get(0).getInt("elementCount"));
+    assertEquals(500, invocationCount);
+  }
+
+  @Test
+  final void jfr_parallelReplaceAll() throws IOException {
+    final ObservableList<Integer> list = new ObservableList<>(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+
+    final Path file = Files.createTempFile("beanbag", ".jfr");
+
+    try(final Recording recording = new Recording()) {
+      recording.enable(BulkMutationEvent.class).withThreshold(Duration.ZERO);
+      recording.start();
+
+      list.parallelReplaceAll(element -> element + 1);
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+    Files.delete(file);
+
+    final List<String> operations = events.stream()
+        .filter(event -> event.getEventType().getName().equals("com.oliveryasuna.beanbag.BulkMutation"))
+        .map(event -> event.getString("operation"))
+        .collect(Collectors.toList());
+
+    assertEquals(List.of("parallelReplaceAll"), operations);
+  }
+
+  @Test
+  final void jfr_parallelRemoveIf_noMatch() throws IOException {
+    final ObservableList<Integer> list = new ObservableList<>(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+
+    final Path file = Files.createTempFile("beanbag", ".jfr");
+
+    try(final Recording recording = new Recording()) {
+      recording.enable(BulkMutationEvent.class).withThreshold(Duration.ZERO);
+      recording.start();
+
+      assertFalse(list.parallelRemoveIf(element -> element < 0));
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+    Files.delete(file);
+
+    final List<String> operations = events.stream()
+        .filter(event -> event.getEventType().getName().equals("com.oliveryasuna.beanbag.BulkMutation"))
+        .map(event -> event.getString("operation"))
+        .collect(Collectors.toList());
+
+    assertEquals(List.of("parallelRemoveIf"), operations);
+  }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.metrics;
+
+import com.oliveryasuna.beanbag.collection.ObservableList;
+import com.oliveryasuna.beanbag.collection.listener.CollectionElementAddedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementAddedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementChangedListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class CollectionMetricsTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void collectionMetrics_countsMutationsAndEvents() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    final CollectionMetrics metrics = new CollectionMetrics();
+    list.setInstrumentation(metrics);
+
+    final List<Integer> added = new ArrayList<>();
+    final ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>> addedListener = (event -> added.add(event.getElement()));
+    final ListElementChangedListener<Integer, List<Integer>, ObservableList<Integer>> changedListener = (event -> {
+    });
+
+    list.addElementAddedListener(addedListener);
+    list.addElementChangedListener(changedListener);
+
+    list.addAll(List.of(1, 2, 3));
+    list.set(0, 4);
+    list.remove(1);
+    list.removeRange(0, 2);
+
+    final CollectionMetrics.Snapshot snapshot = metrics.snapshot();
+
+    assertEquals(List.of(1, 2, 3), added);
+    assertEquals(3, snapshot.getMutationCount(MutationType.ADDED));
+    assertEquals(1, snapshot.getMutationCount(MutationType.CHANGED));
+    assertEquals(3, snapshot.getMutationCount(MutationType.REMOVED));
+    assertEquals(0, snapshot.getMutationCount(MutationType.MOVED));
+    assertEquals(3, snapshot.getEventCount(ListElementAddedListener.class));
+    assertEquals(3, snapshot.getEventCount(CollectionElementAddedListener.class));
+    assertEquals(1, snapshot.getEventCount(ListElementChangedListener.class));
+    assertEquals(3, snapshot.getListenerLatency(addedListener).getCount());
+    assertEquals(1, snapshot.getListenerLatency(changedListener).getCount());
+  }
+
+  @Test
+  final void collectionMetrics_listenerLatency() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    final CollectionMetrics metrics = new CollectionMetrics();
+    list.setInstrumentation(metrics);
+
+    final ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>> slowListener = (event -> {
+      try {
+        TimeUnit.MILLISECONDS.sleep(2);
+      } catch(final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+
+    list.addElementAddedListener(slowListener);
+    list.add(1);
+    list.add(2);
+
+    final LatencyHistogram.Snapshot latency = metrics.snapshot().getListenerLatency(slowListener);
+
+    assertEquals(2, latency.getCount());
+    assertTrue(latency.getMaxNanos() >= TimeUnit.MILLISECONDS.toNanos(2));
+    assertTrue(latency.percentileNanos(50.0) >= TimeUnit.MILLISECONDS.toNanos(1));
+  }
+
+  @Test
+  final void collectionMetrics_disabledRecordsNothing() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    final CollectionMetrics metrics = new CollectionMetrics();
+
+    list.add(1);
+
+    assertEquals(0, metrics.snapshot().getMutationCount(MutationType.ADDED));
+  }
+
+  @Test
+  final void latencyHistogram_percentiles() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+
+    for(int i = 0; i < 99; i++) {
+      histogram.record(100);
+    }
+
+    histogram.record(1_000_000);
+
+    final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+    assertEquals(100, snapshot.getCount());
+    assertEquals(127, snapshot.percentileNanos(50.0));
+    assertEquals(127, snapshot.percentileNanos(99.0));
+    assertEquals(1_000_000, snapshot.percentileNanos(100.0));
+  }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.replication;
+
+import com.oliveryasuna.beanbag.collection.ObservableList;
+import com.oliveryasuna.beanbag.collection.codec.DeltaCodec;
+import com.oliveryasuna.beanbag.collection.codec.ElementCodecs;
+import com.oliveryasuna.beanbag.collection.listener.ListElementAddedListener;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ReplicationTests {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10L);
+
+  private static final DeltaCodec<Integer> CODEC = new DeltaCodec<>(ElementCodecs.INTEGER);
+
+  // Static methods
+  //--------------------------------------------------
+
+  private static InetSocketAddress loopback() {
+    return new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+  }
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void follower_receivesSnapshotAndStream() throws Exception {
+    final ObservableList<Integer> list = new ObservableList<>(IntStream.range(0, 1_000).boxed().collect(Collectors.toList()));
+    final ObservableList<Integer> replica = new ObservableList<>(new ArrayList<>());
+
+    final AtomicInteger replicaAdds = new AtomicInteger();
+    replica.addElementAddedListener((ListElementAddedListener<Integer, List<Integer>, ObservableList<Integer>>)event -> replicaAdds.incrementAndGet());
+
+    try(final ReplicationLeader<Integer> leader = new ReplicationLeader<>(list, CODEC, loopback());
+        final ReplicationFollower<Integer> follower = new ReplicationFollower<>(leader.getLocalAddress(), CODEC, replica)) {
+      assertTrue(follower.awaitVersion(list.getVersion(), TIMEOUT));
+      assertEquals(new ArrayList<>(list), new ArrayList<>(replica));
+      assertEquals(1_000, replicaAdds.get());
+
+      final Random random = new Random(3);
+
+      for(int i = 0; i < 2_000; i++) {
+        switch(random.nextInt(4)) {
+          case 0:
+            list.add(random.nextInt(list.size() + 1), random.nextInt());
+            break;
+          case 1:
+            list.remove(random.nextInt(list.size()));
+            break;
+          case 2:
+            list.set(random.nextInt(list.size()), random.nextInt());
+            break;
+          default:
+            list.move(random.nextInt(list.size()), random.nextInt(list.size()));
+            break;
+        }
+      }
+
+      list.sort(Comparator.reverseOrder());
+      list.replaceAll(element -> element / 2);
+
+      assertTrue(follower.awaitVersion(list.getVersion(), TIMEOUT));
+      assertEquals(new ArrayList<>(list), new ArrayList<>(replica));
+    }
+  }
+
+  @Test
+  final void follower_catchesUpAfterReconnect() throws Exception {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(1, 2, 3)));
+    final CountingList replica = new CountingList();
+
+    try(final ReplicationLeader<Integer> leader = new ReplicationLeader<>(list, CODEC, loopback())) {
+      final long version;
+
+      try(final ReplicationFollower<Integer> follower = new ReplicationFollower<>(leader.getLocalAddress(), CODEC, replica)) {
+        assertTrue(follower.awaitVersion(list.getVersion(), TIMEOUT));
+
+        version = follower.getVersion();
+      }
+
+      list.add(4);
+      list.remove(0);
+      list.set(0, 20);
+
+      try(final ReplicationFollower<Integer> follower =
+              new ReplicationFollower<>(leader.getLocalAddress(), CODEC, replica, version, Duration.ofMillis(10L))) {
+        assertTrue(follower.awaitVersion(list.getVersion(), TIMEOUT));
+      }
+
+      assertEquals(new ArrayList<>(list), new ArrayList<>(replica));
+      assertEquals(1, replica.clears);
+    }
+  }
+
+  @Test
+  final void follower_resyncsWhenLeaderLogOverflows() throws Exception {
+    final ObservableList<Integer> list = new ObservableList<>(IntStream.range(0, 200).boxed().collect(Collectors.toList()));
+    final CountingList replica = new CountingList();
+
+    list.setChangeLogCapacity(8);
+
+    try(final ReplicationLeader<Integer> leader = new ReplicationLeader<>(list, CODEC, loopback())) {
+      final long version;
+
+      try(final ReplicationFollower<Integer> follower = new ReplicationFollower<>(leader.getLocalAddress(), CODEC, replica)) {
+        assertTrue(follower.awaitVersion(list.getVersion(), TIMEOUT));
+
+        version = follower.getVersion();
+      }
+
+      list.removeRange(10, 150);
+
+      try(final ReplicationFollower<Integer> follower =
+              new ReplicationFollower<>(leader.getLocalAddress(), CODEC, replica, version, Duration.ofMillis(10L))) {
+        assertTrue(follower.awaitVersion(list.getVersion(), TIMEOUT));
+      }
+
+      assertEquals(new ArrayList<>(list), new ArrayList<>(replica));
+      assertEquals(2, replica.clears);
+    }
+  }
+
+  // CountingList
+  //--------------------------------------------------
+
+  private static final class CountingList extends ArrayList<Integer> {
+
+    // Fields
+    //--------------------------------------------------
+
+    private volatile int clears;
+
+    // List methods
+    //--------------------------------------------------
+
+    @Override
+    public void clear() {
+      clears++;
+
+      super.clear();
+    }
+
+  }
+
+}
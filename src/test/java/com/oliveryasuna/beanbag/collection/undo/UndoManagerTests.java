@@ -0,0 +1,264 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.undo;
+
+import com.oliveryasuna.beanbag.collection.ObservableList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class UndoManagerTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void undoRedo_singleMutations() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(5, 3, 8)));
+    final UndoManager<Integer, List<Integer>, ObservableList<Integer>> undo = new UndoManager<>(list, 100, 1000);
+
+    list.add(1, 9);
+    list.set(0, 7);
+    list.remove(2);
+    list.sort(Comparator.naturalOrder());
+
+    final List<Integer> expected = new ArrayList<>(list);
+
+    assertEquals(4, undo.getUndoSteps());
+
+    while(undo.undo()) ;
+
+    assertEquals(List.of(5, 3, 8), new ArrayList<>(list));
+    assertFalse(undo.canUndo());
+
+    while(undo.redo()) ;
+
+    assertEquals(expected, new ArrayList<>(list));
+    assertFalse(undo.canRedo());
+  }
+
+  @Test
+  final void undo_newEditClearsRedo() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(1, 2)));
+    final UndoManager<Integer, List<Integer>, ObservableList<Integer>> undo = new UndoManager<>(list, 100, 1000);
+
+    list.add(3);
+
+    assertTrue(undo.undo());
+    assertTrue(undo.canRedo());
+
+    list.add(4);
+
+    assertFalse(undo.canRedo());
+    assertEquals(List.of(1, 2, 4), new ArrayList<>(list));
+  }
+
+  @Test
+  final void swap_undoneAsOneStep() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(1, 2, 3, 4)));
+    final UndoManager<Integer, List<Integer>, ObservableList<Integer>> undo = new UndoManager<>(list, 100, 1000);
+
+    list.swap(3, 0);
+
+    assertEquals(List.of(4, 2, 3, 1), new ArrayList<>(list));
+    assertEquals(1, undo.getUndoSteps());
+    assertTrue(undo.undo());
+    assertEquals(List.of(1, 2, 3, 4), new ArrayList<>(list));
+    assertTrue(undo.redo());
+    assertEquals(List.of(4, 2, 3, 1), new ArrayList<>(list));
+  }
+
+  @Test
+  final void batch_undoneAsOneStep() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(1, 2, 3)));
+    final UndoManager<Integer, List<Integer>, ObservableList<Integer>> undo = new UndoManager<>(list, 100, 1000);
+
+    undo.batch(() -> {
+      list.addAll(1, List.of(10, 11, 12));
+      list.set(0, 0);
+      list.remove(Integer.valueOf(3));
+      list.clear();
+      list.add(42);
+    });
+
+    assertEquals(1, undo.getUndoSteps());
+    assertTrue(undo.undo());
+    assertEquals(List.of(1, 2, 3), new ArrayList<>(list));
+    assertTrue(undo.redo());
+    assertEquals(List.of(42), new ArrayList<>(list));
+  }
+
+  @Test
+  final void batch_undoRedoRejectedWhileOpen() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(1)));
+    final UndoManager<Integer, List<Integer>, ObservableList<Integer>> undo = new UndoManager<>(list, 100, 1000);
+
+    undo.beginBatch();
+
+    assertThrows(IllegalStateException.class, undo::undo);
+
+    undo.endBatch();
+
+    assertThrows(IllegalStateException.class, undo::endBatch);
+  }
+
+  @Test
+  final void set_consecutiveSetsMerge() {
+    final ObservableList<String> list = new ObservableList<>(new ArrayList<>(List.of("a", "b")));
+    final UndoManager<String, List<String>, ObservableList<String>> undo = new UndoManager<>(list, 100, 1000);
+
+    list.set(0, "x");
+    list.set(0, "y");
+    list.set(0, "z");
+
+    assertEquals(1, undo.getUndoSteps());
+    assertEquals(1, undo.getOperations());
+
+    list.set(1, "q");
+
+    assertEquals(2, undo.getUndoSteps());
+
+    undo.undo();
+    undo.undo();
+
+    assertEquals(List.of("a", "b"), new ArrayList<>(list));
+  }
+
+  @Test
+  final void set_revertingSetDropsStep() {
+    final ObservableList<String> list = new ObservableList<>(new ArrayList<>(List.of("a")));
+    final UndoManager<String, List<String>, ObservableList<String>> undo = new UndoManager<>(list, 100, 1000);
+
+    list.add("b");
+
+    final String original = list.get(0);
+
+    list.set(0, "x");
+    list.set(0, original);
+
+    assertEquals(1, undo.getUndoSteps());
+    assertEquals(1, undo.getOperations());
+  }
+
+  @Test
+  final void budget_evictsOldestSteps() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    final UndoManager<Integer, List<Integer>, ObservableList<Integer>> undo = new UndoManager<>(list, 3, 1000);
+
+    for(int i = 0; i < 10; i++) {
+      list.add(i);
+    }
+
+    assertEquals(3, undo.getUndoSteps());
+
+    while(undo.undo()) ;
+
+    assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), new ArrayList<>(list));
+
+    final UndoManager<Integer, List<Integer>, ObservableList<Integer>> bounded = new UndoManager<>(list, 100, 5);
+
+    list.add(100);
+    list.addAll(List.of(1, 2, 3, 4));
+    list.add(200);
+
+    assertEquals(2, bounded.getUndoSteps());
+    assertEquals(5, bounded.getOperations());
+  }
+
+  @Test
+  final void undo_largeClear() {
+    final List<Integer> values = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(values));
+    final UndoManager<Integer, List<Integer>, ObservableList<Integer>> undo = new UndoManager<>(list, 10, 1_000_000);
+
+    list.clear();
+
+    assertEquals(1, undo.getUndoSteps());
+    assertTrue(undo.undo());
+    assertEquals(values, new ArrayList<>(list));
+    assertTrue(undo.redo());
+    assertTrue(list.isEmpty());
+  }
+
+  @Test
+  final void close_stopsRecording() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>());
+    final UndoManager<Integer, List<Integer>, ObservableList<Integer>> undo = new UndoManager<>(list, 10, 100);
+
+    undo.close();
+
+    list.add(1);
+
+    assertFalse(undo.canUndo());
+  }
+
+  @Test
+  final void bulkCall_recordedAsOneStep() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(1, 2, 3, 4, 5, 6)));
+    final UndoManager<Integer, List<Integer>, ObservableList<Integer>> undo = new UndoManager<>(list, 2, 1000);
+
+    list.removeIf(element -> element % 2 == 0);
+    list.removeRange(0, 2);
+
+    assertEquals(2, undo.getUndoSteps());
+
+    undo.undo();
+
+    assertEquals(List.of(1, 3, 5), new ArrayList<>(list));
+
+    undo.undo();
+
+    assertEquals(List.of(1, 2, 3, 4, 5, 6), new ArrayList<>(list));
+  }
+
+  @Test
+  final void undo_reordersAndBulkSetsFireBulkEvents() {
+    final ObservableList<Integer> list = new ObservableList<>(new ArrayList<>(List.of(4, 1, 3, 2)));
+    final UndoManager<Integer, List<Integer>, ObservableList<Integer>> undo = new UndoManager<>(list, 100, 1000);
+    final List<String> events = new ArrayList<>();
+
+    list.sort(Comparator.naturalOrder());
+    list.move(0, 3);
+    list.replaceAll(element -> element * 10);
+
+    list.addElementChangedListener(event -> events.add("changed"));
+    list.addElementMovedListener(event -> events.add("moved"));
+    list.addElementsPermutedListener(event -> events.add("permuted"));
+    list.addElementsChangedListener(event -> events.add("elementsChanged"));
+
+    while(undo.undo()) ;
+
+    assertEquals(List.of(4, 1, 3, 2), new ArrayList<>(list));
+    assertEquals(List.of("elementsChanged", "moved", "permuted"), events);
+
+    while(undo.redo()) ;
+
+    assertEquals(List.of(20, 30, 40, 10), new ArrayList<>(list));
+  }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.beanbag.collection.view;
+
+import com.oliveryasuna.beanbag.collection.ObservableList;
+import com.oliveryasuna.beanbag.collection.ObservableSet;
+import com.oliveryasuna.beanbag.collection.aggregate.Aggregates;
+import com.oliveryasuna.beanbag.collection.aggregate.LongSumAggregate;
+import com.oliveryasuna.beanbag.collection.event.ListElementMovedEvent;
+import com.oliveryasuna.beanbag.collection.listener.ListElementAddedListener;
+import com.oliveryasuna.beanbag.collection.listener.ListElementRemovedListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class SortedObservableListTests {
+
+  // Tests
+  //--------------------------------------------------
+
+  @Test
+  final void sortedObservableList_initial() {
+    final ObservableList<Integer> source = new ObservableList<>(new ArrayList<>(List.of(5, 1, 4, 2, 3)));
+
+    assertEquals(List.of(1, 2, 3, 4, 5), new ArrayList<>(source.sorted(Comparator.naturalOrder())));
+  }
+
+  @Test
+  final void sortedObservableList_add() {
+    final ObservableSet<Integer> source = new ObservableSet<>(new HashSet<>(Set.of(10, 30)));
+    final SortedObservableList<Integer> sorted = source.sorted(Comparator.naturalOrder());
+
+    final List<Integer> indexes = new ArrayList<>();
+    sorted.addElementAddedListener((ListElementAddedListener<Integer, List<Integer>, SortedObservableList<Integer>>)event -> indexes.add(event.getIndex()));
+
+    source.add(20);
+    source.add(40);
+    source.add(0);
+
+    assertEquals(List.of(1, 3, 0), indexes);
+    assertEquals(List.of(0, 10, 20, 30, 40), new ArrayList<>(sorted));
+  }
+
+  @Test
+  final void sortedObservableList_remove() {
+    final ObservableList<Integer> source = new ObservableList<>(new ArrayList<>(List.of(3, 1, 2)));
+    final SortedObservableList<Integer> sorted = source.sorted(Comparator.naturalOrder());
+
+    final List<Integer> indexes = new ArrayList<>();
+    sorted.addElementRemovedListener((ListElementRemovedListener<Integer, List<Integer>, SortedObservableList<Integer>>)event -> indexes.add(event.getIndex()));
+
+    source.remove((Integer)2);
+    source.clear();
+
+    assertEquals(List.of(1, 1, 0), indexes);
+    assertTrue(sorted.isEmpty());
+  }
+
+  @Test
+  final void sortedObservableList_changed_moved() {
+    final ObservableList<Integer> source = new ObservableList<>(new ArrayList<>(List.of(1, 2, 3, 4)));
+    final SortedObservableList<Integer> sorted = source.sorted(Comparator.naturalOrder());
+
+    final List<ListElementMovedEvent<Integer, List<Integer>, SortedObservableList<Integer>>> moved = new ArrayList<>();
+    final List<Integer> changed = new ArrayList<>();
+    sorted.addElementMovedListener(moved::add);
+    sorted.addElementChangedListener(event -> changed.add(event.getIndex()));
+
+    source.set(0, 10);
+    source.set(1, 2);
+    source.set(2, 3);
+
+    assertEquals(1, moved.size());
+    assertEquals(0, moved.get(0).getFromIndex());
+    assertEquals(3, moved.get(0).getToIndex());
+    assertEquals(10, moved.get(0).getElement());
+    assertEquals(List.of(0), changed);
+    assertEquals(List.of(2, 3, 4, 10), new ArrayList<>(sorted));
+
+    source.set(3, 5);
+
+    assertEquals(List.of(0, 2), changed);
+    assertEquals(List.of(2, 3, 5, 10), new ArrayList<>(sorted));
+  }
+
+  @Test
+  final void sortedObservableList_changed_moved_derivedStructures() {
+    final ObservableList<Integer> source = new ObservableList<>(new ArrayList<>(List.of(1, 2, 3, 4)));
+    final SortedObservableList<Integer> sorted = source.sorted(Comparator.naturalOrder());
+    final SortedObservableList<Integer> nested = sorted.sorted(Comparator.reverseOrder());
+    final LongSumAggregate<Integer> sum = Aggregates.sumLong(sorted, Integer::longValue);
+
+    source.set(0, 10);
+
+    assertEquals(19L, sum.getValue());
+    assertEquals(List.of(10, 4, 3, 2), new ArrayList<>(nested));
+    assertEquals(List.of(2, 3, 4, 10), new ArrayList<>(sorted));
+  }
+
+  @Test
+  final void sortedObservableList_random() {
+    final ObservableList<Integer> source = new ObservableList<>(new ArrayList<>());
+    final SortedObservableList<Integer> sorted = source.sorted(Comparator.reverseOrder());
+    final List<Integer> mirror = new ArrayList<>();
+
+    sorted.addElementAddedListener((ListElementAddedListener<Integer, List<Integer>, SortedObservableList<Integer>>)event ->
+        mirror.add(event.getIndex(), event.getElement()));
+    sorted.addElementRemovedListener((ListElementRemovedListener<Integer, List<Integer>, SortedObservableList<Integer>>)event ->
+        mirror.remove(event.getIndex()));
+    sorted.addElementChangedListener(event -> mirror.set(event.getIndex(), event.getNewElement()));
+    sorted.addElementMovedListener(event -> {
+      mirror.remove(event.getFromIndex());
+      mirror.add(event.getToIndex(), event.getElement());
+    });
+
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    for(int i = 0; i < 2000; i++) {
+      final int operation = random.nextInt(3);
+
+      if(operation == 0 || source.isEmpty()) {
+        source.add(random.nextInt(100));
+      } else if(operation == 1) {
+        source.remove(random.nextInt(source.size()));
+      } else {
+        source.set(random.nextInt(source.size()), random.nextInt(100));
+      }
+    }
+
+    final List<Integer> expected = new ArrayList<>(source);
+    expected.sort(Comparator.reverseOrder());
+
+    assertEquals(expected, new ArrayList<>(sorted));
+    assertEquals(expected, mirror);
+  }
+
+  @Test
+  final void sortedObservableList_readOnly() {
+    final SortedObservableList<Integer> sorted = new ObservableList<>(new ArrayList<>(List.of(1))).sorted(Comparator.naturalOrder());
+
+    assertThrows(UnsupportedOperationException.class, () -> sorted.add(2));
+    assertThrows(UnsupportedOperationException.class, () -> sorted.remove(0));
+  }
+
+}